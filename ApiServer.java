@@ -0,0 +1,340 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Read-only JSON API over the same data the Swing tabs use: java ApiServer [port]
+public class ApiServer {
+    static final int DEFAULT_PORT = 8765;
+    private static final int BACKLOG = 1024;
+
+    private final HttpServer server;
+
+    ApiServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), BACKLOG);
+        server.setExecutor(requestExecutor());
+        register("/api/dashboard", new Resource(() -> new Object[]{DataStore.get().rows("Timetable.csv"),
+                DataStore.get().rows("Tasks.csv"), SubjectRepository.get().snapshot()}, ApiServer::dashboardJson));
+        register("/api/goals", new Resource(() -> new Object[]{DataStore.get().rows("Goals.csv"),
+                DataStore.get().rows("Tasks.csv")}, ApiServer::goalsJson));
+        register("/api/exams", new Resource(() -> new Object[]{DataStore.get().rows("Exams.csv")}, ApiServer::examsJson,
+                ApiServer::examsQueryJson));
+    }
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+    }
+
+    // Virtual threads when the runtime has them (JDK 21+), otherwise a bounded pool; handlers only copy
+    // cached bytes, so a modest pool keeps up with many polling clients.
+    private static ExecutorService requestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+            return Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "ApiServer-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private void register(String path, Resource resource) {
+        server.createContext(path, exchange -> {
+            try {
+                serve(exchange, resource);
+            } catch (IllegalArgumentException e) {
+                exchange.sendResponseHeaders(400, -1);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private static void serve(HttpExchange exchange, Resource resource) throws IOException {
+        String method = exchange.getRequestMethod();
+        boolean head = "HEAD".equals(method);
+        if (!head && !"GET".equals(method)) {
+            exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+            exchange.sendResponseHeaders(405, -1);
+            return;
+        }
+
+        Resource.Body body = resource.current(exchange.getRequestURI().getRawQuery());
+        exchange.getResponseHeaders().set("ETag", body.etag);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), body.etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if (head) {
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, body.bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body.bytes);
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) candidate = candidate.substring(2);
+            if (candidate.equals("*") || candidate.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    // Caches the rendered JSON until one of its sources changes. Sources are the DataStore row lists and
+    // repository snapshots, which are replaced rather than mutated, so an identity check is enough.
+    // render gets the same sources it is cached against, so it never reads anything else.
+    // Requests with a query string go to renderQuery, if there is one, and are not cached.
+    static class Resource {
+        private final Supplier<Object[]> sources;
+        private final Function<Object[], String> render;
+        private final BiFunction<Object[], Map<String, String>, String> renderQuery;
+        private volatile Body body;
+
+        Resource(Supplier<Object[]> sources, Function<Object[], String> render) {
+            this(sources, render, null);
+        }
+
+        Resource(Supplier<Object[]> sources, Function<Object[], String> render,
+                 BiFunction<Object[], Map<String, String>, String> renderQuery) {
+            this.sources = sources;
+            this.render = render;
+            this.renderQuery = renderQuery;
+        }
+
+        Body current(String rawQuery) {
+            Object[] current = sources.get();
+            long today = LocalDate.now().toEpochDay();
+            if (renderQuery != null && rawQuery != null && !rawQuery.isEmpty()) {
+                String json = renderQuery.apply(current, parseQuery(rawQuery));
+                return new Body(current, today, json.getBytes(StandardCharsets.UTF_8));
+            }
+            Body cached = body;
+            if (cached != null && cached.isFor(current, today)) return cached;
+            synchronized (this) {
+                cached = body;
+                if (cached == null || !cached.isFor(current, today)) {
+                    cached = new Body(current, today, render.apply(current).getBytes(StandardCharsets.UTF_8));
+                    body = cached;
+                }
+                return cached;
+            }
+        }
+
+        static final class Body {
+            final Object[] sources;
+            final long epochDay;
+            final byte[] bytes;
+            final String etag;
+
+            Body(Object[] sources, long epochDay, byte[] bytes) {
+                this.sources = sources;
+                this.epochDay = epochDay;
+                this.bytes = bytes;
+                this.etag = "\"" + Integer.toHexString(Arrays.hashCode(bytes)) + "-" + Integer.toHexString(bytes.length) + "\"";
+            }
+
+            boolean isFor(Object[] current, long today) {
+                if (epochDay != today || current.length != sources.length) return false;
+                for (int i = 0; i < current.length; i++) {
+                    if (current[i] != sources[i]) return false;
+                }
+                return true;
+            }
+        }
+    }
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) continue;
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String dashboardJson(Object[] sources) {
+        List<String[]> timetableRows = (List<String[]>) sources[0];
+        List<String[]> taskRows = (List<String[]>) sources[1];
+        List<Subject> subjects = (List<Subject>) sources[2];
+        LocalDate today = LocalDate.now();
+        int day = today.getDayOfWeek().getValue() - 1;
+        StringBuilder json = new StringBuilder("{");
+        Json.field(json, "date", today.toString()).append(",\"classes\":[");
+        boolean first = true;
+        for (String[] row : timetableRows) {
+            if (row.length <= day) continue;
+            if (!first) json.append(',');
+            Json.string(json, row[day].trim());
+            first = false;
+        }
+
+        json.append("],\"tasks\":[");
+        first = true;
+        for (String[] row : taskRows) {
+            if (row.length < 3) continue;
+            if (!first) json.append(',');
+            json.append('{');
+            Json.field(json, "goal", row[0]).append(',');
+            Json.field(json, "task", row[1]).append(',');
+            Json.field(json, "done", Boolean.parseBoolean(row[2].trim())).append('}');
+            first = false;
+        }
+
+        json.append("],\"attendance\":[");
+        first = true;
+        for (Subject subject : subjects) {
+            if (!first) json.append(',');
+            json.append('{');
+            Json.field(json, "subject", subject.getSubName().trim()).append(',');
+            Json.field(json, "attended", subject.getClassAttended()).append(',');
+            Json.field(json, "total", subject.getTotalClass()).append(',');
+            Json.field(json, "target", subject.getTargetedAttendance()).append(',');
+            Json.field(json, "percentage", subject.calculateAttendancePercentage()).append(',');
+            Json.field(json, "classesNeeded", Math.max(0, subject.calculateClassesNeeded())).append('}');
+            first = false;
+        }
+        return json.append("]}").toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String goalsJson(Object[] sources) {
+        GoalManager goalManager = new GoalManager();
+        goalManager.addGoalRows((List<String[]>) sources[0]);
+        goalManager.addTaskRows((List<String[]>) sources[1]);
+
+        StringBuilder json = new StringBuilder("[");
+        boolean firstGoal = true;
+        for (Goal goal : goalManager.getGoals()) {
+            if (!firstGoal) json.append(',');
+            json.append('{');
+            Json.field(json, "name", goal.getName()).append(',');
+            Json.field(json, "target", goal.getTargetProgress()).append(',');
+            Json.field(json, "progress", goal.getCurrentProgress()).append(',');
+            Json.field(json, "deadline", goal.getDeadline().toString()).append(',');
+            Json.field(json, "status", goal.getStatus()).append(",\"tasks\":[");
+            boolean firstTask = true;
+            for (Task task : goal.getTasks()) {
+                if (!firstTask) json.append(',');
+                json.append('{');
+                Json.field(json, "description", task.getDescription()).append(',');
+                Json.field(json, "done", task.isComplete()).append('}');
+                firstTask = false;
+            }
+            json.append("]}");
+            firstGoal = false;
+        }
+        return json.append(']').toString();
+    }
+
+    private static String examsJson(Object[] sources) {
+        ExamIndex index = examIndex(sources);
+        return examsJson(index, index.all());
+    }
+
+    // from/to (yyyy-MM-dd, both inclusive, either may be left out) pick a date range;
+    // top=k picks the k highest-priority exams from "from" (default today) onward.
+    static String examsQueryJson(Object[] sources, Map<String, String> params) {
+        ExamIndex index = examIndex(sources);
+        LocalDate from = dateParam(params, "from", null);
+        if (params.containsKey("top")) {
+            int k;
+            try {
+                k = Integer.parseInt(params.get("top"));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("top must be a number", e);
+            }
+            return examsJson(index, index.topByPriority(from == null ? LocalDate.now() : from, k));
+        }
+        LocalDate to = dateParam(params, "to", LocalDate.MAX);
+        return examsJson(index, index.between(from == null ? LocalDate.MIN : from, to));
+    }
+
+    private static LocalDate dateParam(Map<String, String> params, String name, LocalDate fallback) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) return fallback;
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be yyyy-MM-dd", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExamIndex examIndex(Object[] sources) {
+        List<Exam> exams = new ArrayList<>();
+        for (String[] row : (List<String[]>) sources[0]) {
+            if (row.length < 3) continue;
+            try {
+                exams.add(Exam.fromRow(row));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                // Same as the exam tab: rows that do not parse are left out.
+            }
+        }
+        ExamIndex index = new ExamIndex();
+        index.setAll(exams);
+        return index;
+    }
+
+    private static String examsJson(ExamIndex index, List<Exam> exams) {
+        long today = LocalDate.now().toEpochDay();
+        StringBuilder json = new StringBuilder("[");
+        boolean first = true;
+        for (Exam exam : exams) {
+            if (!first) json.append(',');
+            json.append('{');
+            Json.field(json, "subject", exam.getSubject()).append(',');
+            Json.field(json, "date", exam.getDate().toString()).append(',');
+            Json.field(json, "priority", exam.getPriority()).append(',');
+            Json.field(json, "daysLeft", exam.getEpochDay() - today).append(',');
+            Json.field(json, "conflict", index.countOn(exam.getEpochDay()) > 1).append('}');
+            first = false;
+        }
+        return json.append(']').toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ApiServer api = new ApiServer(port);
+        api.start();
+        System.out.println("StudyNAV API listening on http://127.0.0.1:" + port + "/api/{dashboard,goals,exams}");
+    }
+}
@@ -0,0 +1,127 @@
+import java.util.List;
+
+final class AppEvents {
+    private AppEvents() {
+    }
+
+    abstract static class SubjectEvent {
+        final List<Subject> snapshot;
+
+        SubjectEvent(List<Subject> snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    static final class SubjectAdded extends SubjectEvent {
+        final Subject subject;
+
+        SubjectAdded(Subject subject, List<Subject> snapshot) {
+            super(snapshot);
+            this.subject = subject;
+        }
+    }
+
+    static final class SubjectRemoved extends SubjectEvent {
+        final String subName;
+
+        SubjectRemoved(String subName, List<Subject> snapshot) {
+            super(snapshot);
+            this.subName = subName;
+        }
+    }
+
+    static final class AttendanceChanged extends SubjectEvent {
+        final Subject subject;
+
+        AttendanceChanged(Subject subject, List<Subject> snapshot) {
+            super(snapshot);
+            this.subject = subject;
+        }
+    }
+
+    static final class SubjectsReloaded extends SubjectEvent {
+        SubjectsReloaded(List<Subject> snapshot) {
+            super(snapshot);
+        }
+    }
+
+    static final class GoalAdded {
+        final Goal goal;
+
+        GoalAdded(Goal goal) {
+            this.goal = goal;
+        }
+    }
+
+    static final class GoalRemoved {
+        final Goal goal;
+
+        GoalRemoved(Goal goal) {
+            this.goal = goal;
+        }
+    }
+
+    static final class GoalStatusChanged {
+        final String goalName;
+        final String status;
+
+        GoalStatusChanged(String goalName, String status) {
+            this.goalName = goalName;
+            this.status = status;
+        }
+    }
+
+    static final class TaskAdded {
+        final Goal goal;
+        final Task task;
+
+        TaskAdded(Goal goal, Task task) {
+            this.goal = goal;
+            this.task = task;
+        }
+    }
+
+    static final class TaskRemoved {
+        final Goal goal;
+        final Task task;
+
+        TaskRemoved(Goal goal, Task task) {
+            this.goal = goal;
+            this.task = task;
+        }
+    }
+
+    static final class TaskToggled {
+        final Goal goal;
+        final Task task;
+
+        TaskToggled(Goal goal, Task task) {
+            this.goal = goal;
+            this.task = task;
+        }
+    }
+
+    static final class ExamAdded {
+        final Exam exam;
+
+        ExamAdded(Exam exam) {
+            this.exam = exam;
+        }
+    }
+
+    static final class ExamRemoved {
+        final Exam exam;
+
+        ExamRemoved(Exam exam) {
+            this.exam = exam;
+        }
+    }
+
+    static final class TimetableEdited {
+        final String[][] cells;
+
+        TimetableEdited(String[][] cells) {
+            this.cells = cells;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Per-subject record of which days had a class and which of those were attended, one bit per day.
+// A day marked attended more than once keeps the marks beyond the first in a small overflow map, so
+// unmarking reverses exactly one mark. Rows in attendance_history.csv are "subject,held days,attended
+// days,extra marks" with the days in DayBitmap's encoded form and the extras as "epochDay:count ...".
+// The file is only written when the attendance journal compacts, which adds the newest record's
+// timestamp to each row; the journal records after it are replayed on load.
+class AttendanceHistory {
+    static final String FILE = "attendance_history.csv";
+
+    private static final class Days {
+        final DayBitmap held;
+        final DayBitmap attended;
+        final TreeMap<Long, Integer> extra;
+
+        Days(DayBitmap held, DayBitmap attended, TreeMap<Long, Integer> extra) {
+            this.held = held;
+            this.attended = attended;
+            this.extra = extra;
+        }
+
+        Days() {
+            this(new DayBitmap(), new DayBitmap(), new TreeMap<>());
+        }
+
+        int extraBetween(long fromDay, long toDay) {
+            if (extra.isEmpty() || fromDay > toDay) return 0;
+            int count = 0;
+            for (int marks : extra.subMap(fromDay, true, toDay, true).values()) {
+                count += marks;
+            }
+            return count;
+        }
+    }
+
+    private final Map<String, Days> subjects = new HashMap<>();
+
+    // Classes attended on the day, 0 when none was marked.
+    synchronized int attendedOn(String subName, LocalDate date) {
+        Days days = subjects.get(subName);
+        if (days == null || !days.attended.get(date.toEpochDay())) return 0;
+        return 1 + days.extra.getOrDefault(date.toEpochDay(), 0);
+    }
+
+    synchronized void markAttended(String subName, LocalDate date) {
+        Days days = subjects.computeIfAbsent(subName, k -> new Days());
+        long day = date.toEpochDay();
+        if (days.attended.get(day)) {
+            days.extra.merge(day, 1, Integer::sum);
+        } else {
+            days.held.set(day);
+            days.attended.set(day);
+        }
+    }
+
+    // Returns how many attended marks the day had before, all of which are dropped.
+    synchronized int markAbsent(String subName, LocalDate date) {
+        int previous = attendedOn(subName, date);
+        Days days = subjects.computeIfAbsent(subName, k -> new Days());
+        long day = date.toEpochDay();
+        days.held.set(day);
+        days.attended.clear(day);
+        days.extra.remove(day);
+        return previous;
+    }
+
+    // Takes back one attended mark; the day is forgotten entirely once its last mark is gone.
+    synchronized void unmark(String subName, LocalDate date) {
+        Days days = subjects.get(subName);
+        if (days == null) return;
+        long day = date.toEpochDay();
+        Integer extra = days.extra.get(day);
+        if (extra != null) {
+            if (extra == 1) {
+                days.extra.remove(day);
+            } else {
+                days.extra.put(day, extra - 1);
+            }
+            return;
+        }
+        days.held.clear(day);
+        days.attended.clear(day);
+    }
+
+    synchronized void remove(String subName) {
+        subjects.remove(subName);
+    }
+
+    synchronized int attendedBetween(String subName, LocalDate from, LocalDate to) {
+        Days days = subjects.get(subName);
+        if (days == null) return 0;
+        return days.attended.count(from.toEpochDay(), to.toEpochDay()) + days.extraBetween(from.toEpochDay(), to.toEpochDay());
+    }
+
+    synchronized int heldBetween(String subName, LocalDate from, LocalDate to) {
+        Days days = subjects.get(subName);
+        if (days == null) return 0;
+        return days.held.count(from.toEpochDay(), to.toEpochDay()) + days.extraBetween(from.toEpochDay(), to.toEpochDay());
+    }
+
+    // NaN when no class was recorded in the month.
+    synchronized double percentageForMonth(String subName, LocalDate anyDayInMonth) {
+        LocalDate from = anyDayInMonth.withDayOfMonth(1);
+        LocalDate to = anyDayInMonth.withDayOfMonth(anyDayInMonth.lengthOfMonth());
+        int held = heldBetween(subName, from, to);
+        return held == 0 ? Double.NaN : 100.0 * attendedBetween(subName, from, to) / held;
+    }
+
+    // Most consecutive recorded classes missed, counting class days rather than calendar days.
+    synchronized int longestAbsenceStreak(String subName) {
+        Days days = subjects.get(subName);
+        if (days == null) return 0;
+        int longest = 0;
+        int current = 0;
+        for (long day = days.held.first(); day != Long.MIN_VALUE; day = days.held.next(day + 1)) {
+            if (days.attended.get(day)) {
+                current = 0;
+            } else {
+                longest = Math.max(longest, ++current);
+            }
+        }
+        return longest;
+    }
+
+    synchronized List<String> toLines() {
+        List<String> lines = new ArrayList<>(subjects.size());
+        for (Map.Entry<String, Days> entry : subjects.entrySet()) {
+            Days days = entry.getValue();
+            if (days.held.isEmpty()) continue;
+            lines.add(CsvCodec.formatRow(entry.getKey(), days.held.encode(), days.attended.encode(), encodeExtra(days.extra)));
+        }
+        return lines;
+    }
+
+    // Adds the rows of a file written from toLines(); returns the newest timestamp they carry, 0 if none.
+    synchronized long read(Path file) {
+        long newest = 0;
+        if (!Files.exists(file)) return newest;
+        try (CsvCodec.Cursor cursor = CsvCodec.open(file)) {
+            while (cursor.next()) {
+                int fields = cursor.fieldCount();
+                if (fields < 3 || fields > 5) continue;
+                subjects.put(cursor.field(0), new Days(DayBitmap.decode(cursor.field(1)),
+                        DayBitmap.decode(cursor.field(2)), fields >= 4 ? decodeExtra(cursor.field(3)) : new TreeMap<>()));
+                if (fields == 5) newest = Math.max(newest, Long.parseLong(cursor.field(4).trim()));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+        }
+        return newest;
+    }
+
+    private static String encodeExtra(Map<Long, Integer> extra) {
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<Long, Integer> entry : extra.entrySet()) {
+            if (encoded.length() > 0) encoded.append(' ');
+            encoded.append(entry.getKey()).append(':').append(entry.getValue());
+        }
+        return encoded.toString();
+    }
+
+    private static TreeMap<Long, Integer> decodeExtra(String encoded) {
+        TreeMap<Long, Integer> extra = new TreeMap<>();
+        for (String item : encoded.trim().split("\\s+")) {
+            int colon = item.indexOf(':');
+            if (colon < 0) continue;
+            int marks = Integer.parseInt(item.substring(colon + 1));
+            if (marks > 0) extra.put(Long.parseLong(item.substring(0, colon)), marks);
+        }
+        return extra;
+    }
+}
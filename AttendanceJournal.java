@@ -0,0 +1,187 @@
+import java.io.*;
+import java.nio.file.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Records are "timestamp,subject,kind": 1 marks a class attended, -1 takes one mark back, and 0 marks
+// the day absent. The timestamp's day is the day the history records.
+class AttendanceJournal {
+    private static final long COMPACT_DELAY_MS = 2000;
+    private static final int COMPACT_THRESHOLD = 256;
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final Path historyFile;
+    private final Supplier<List<String>> snapshotLines;
+    private final Supplier<List<String>> historyLines;
+    private final ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "AttendanceJournal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private BufferedWriter journalWriter;
+    private int pendingRecords;
+    // Newest record timestamp written or read; records get strictly increasing timestamps.
+    private long lastTimestamp;
+    private boolean dirty;
+    // Set when the owner's list changed in a way only the next snapshot records (added or removed rows).
+    private boolean snapshotPending;
+    private ScheduledFuture<?> scheduledCompaction;
+
+    AttendanceJournal(String snapshotFile, String journalFile, String historyFile,
+                      Supplier<List<String>> snapshotLines, Supplier<List<String>> historyLines) {
+        this.snapshotFile = Paths.get(snapshotFile);
+        this.journalFile = Paths.get(journalFile);
+        this.historyFile = Paths.get(historyFile);
+        this.snapshotLines = snapshotLines;
+        this.historyLines = historyLines;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::compact, "AttendanceJournal-flush"));
+    }
+
+    synchronized void append(String subjectName, int kind) {
+        try {
+            if (journalWriter == null) {
+                journalWriter = Files.newBufferedWriter(journalFile, CsvCodec.CHARSET,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp + 1);
+            journalWriter.write(CsvCodec.formatRow(String.valueOf(timestamp), subjectName, String.valueOf(kind)));
+            lastTimestamp = timestamp;
+            journalWriter.newLine();
+            journalWriter.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        pendingRecords++;
+        dirty = true;
+        scheduleCompaction(pendingRecords >= COMPACT_THRESHOLD ? 0 : COMPACT_DELAY_MS);
+    }
+
+    synchronized void requestCompaction() {
+        dirty = true;
+        snapshotPending = true;
+        scheduleCompaction(0);
+    }
+
+    private void scheduleCompaction(long delayMs) {
+        if (scheduledCompaction != null) {
+            scheduledCompaction.cancel(false);
+        }
+        scheduledCompaction = compactor.schedule(this::compact, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Writes the owner's current snapshot and history and drops the journal. Appends take the same
+    // lock, so both cover every record so far; each row ends with the newest record's timestamp, and
+    // replay skips records up to it. If the journal outlives them (a crash before the delete), its
+    // records are not counted twice.
+    synchronized void compact() {
+        if (!dirty) return;
+        try {
+            PersistenceExecutor.writeAtomically(historyFile, withTimestamp(historyLines.get()));
+            PersistenceExecutor.writeAtomically(snapshotFile, withTimestamp(snapshotLines.get()));
+            if (journalWriter != null) {
+                journalWriter.close();
+                journalWriter = null;
+            }
+            Files.deleteIfExists(journalFile);
+            pendingRecords = 0;
+            dirty = false;
+            snapshotPending = false;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private List<String> withTimestamp(List<String> rows) {
+        List<String> lines = new ArrayList<>(rows.size());
+        for (String row : rows) {
+            lines.add(row + "," + lastTimestamp);
+        }
+        return lines;
+    }
+
+    // True while the files on disk are behind the owner's list, so reading them back would lose changes.
+    synchronized boolean isSnapshotPending() {
+        return snapshotPending;
+    }
+
+    // Fills history, which should be empty, along with the subjects.
+    synchronized List<Subject> load(AttendanceHistory history) {
+        List<Subject> subjects = new ArrayList<>();
+        long historyApplied = history.read(historyFile);
+        lastTimestamp = Math.max(lastTimestamp, Math.max(historyApplied, read(snapshotFile, journalFile, subjects, history, historyApplied)));
+        return subjects;
+    }
+
+    static List<Subject> read(Path snapshotFile, Path journalFile) {
+        List<Subject> subjects = new ArrayList<>();
+        read(snapshotFile, journalFile, subjects, null, 0);
+        return subjects;
+    }
+
+    // Snapshot rows are "name,total,attended,target" plus the timestamp of the newest journal record
+    // they include; rows without it (hand-edited files) take every record. Returns the newest timestamp seen.
+    private static long read(Path snapshotFile, Path journalFile, List<Subject> subjects,
+                             AttendanceHistory history, long historyApplied) {
+        List<Long> applied = new ArrayList<>();
+        long newest = 0;
+        if (Files.exists(snapshotFile)) {
+            try (CsvCodec.Cursor cursor = CsvCodec.open(snapshotFile)) {
+                while (cursor.next()) {
+                    if (cursor.fieldCount() != 4 && cursor.fieldCount() != 5) continue;
+                    subjects.add(new Subject(cursor.field(0), cursor.intField(1), cursor.intField(2), cursor.intField(3)));
+                    long timestamp = cursor.fieldCount() == 5 ? Long.parseLong(cursor.field(4).trim()) : 0;
+                    applied.add(timestamp);
+                    newest = Math.max(newest, timestamp);
+                }
+            } catch (IOException | NumberFormatException e) {
+                e.printStackTrace();
+            }
+        }
+        return Math.max(newest, replay(subjects, applied, journalFile, history, historyApplied));
+    }
+
+    private static long replay(List<Subject> subjects, List<Long> applied, Path journalFile,
+                               AttendanceHistory history, long historyApplied) {
+        long newest = 0;
+        if (!Files.exists(journalFile)) return newest;
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < subjects.size(); i++) {
+            index.putIfAbsent(subjects.get(i).getSubName(), i);
+        }
+        try (CsvCodec.Cursor cursor = CsvCodec.open(journalFile)) {
+            while (cursor.next()) {
+                if (cursor.fieldCount() != 3) continue;
+                long timestamp = Long.parseLong(cursor.field(0).trim());
+                newest = Math.max(newest, timestamp);
+                Integer i = index.get(cursor.field(1));
+                if (i == null) continue;
+                int kind = Integer.signum(cursor.intField(2));
+                if (history != null && timestamp > historyApplied) {
+                    LocalDate day = LocalDate.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+                    if (kind > 0) {
+                        history.markAttended(cursor.field(1), day);
+                    } else if (kind < 0) {
+                        history.unmark(cursor.field(1), day);
+                    } else {
+                        history.markAbsent(cursor.field(1), day);
+                    }
+                }
+                if (kind == 0 || timestamp <= applied.get(i)) continue;
+                Subject subject = subjects.get(i);
+                subjects.set(i, subject.withClassAttended(subject.getClassAttended() + kind));
+            }
+        } catch (IOException | NumberFormatException e) {
+            e.printStackTrace();
+        }
+        return newest;
+    }
+}
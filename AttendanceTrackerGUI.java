@@ -1,6 +1,7 @@
 import java.awt.*;
-import java.io.*;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.List;
 import javax.swing.*;
 
 class AttendanceTrackerGUI extends JPanel {
@@ -9,11 +10,11 @@ class AttendanceTrackerGUI extends JPanel {
     private JLabel detailedStatusLabel;
     private JButton markAttendanceButton;
     private JButton unmarkAttendanceButton;
+    private JButton markAbsentButton;
     private JButton checkAttendanceButton;
     private JButton endOfSemesterButton;
 
-    private final String CSV_FILE = "subjects.csv";
-    private Map<String, SubjectData> subjectsMap;
+    private final SubjectRepository repository = SubjectRepository.get();
 
     public AttendanceTrackerGUI() {
         setLayout(new BorderLayout(10, 10));
@@ -28,16 +29,19 @@ class AttendanceTrackerGUI extends JPanel {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
         markAttendanceButton = new JButton("Mark Attendance");
         unmarkAttendanceButton = new JButton("Unmark Attendance");
+        markAbsentButton = new JButton("Mark Absent");
         checkAttendanceButton = new JButton("Check Attendance Status");
         endOfSemesterButton = new JButton("End of Semester Total");
 
         markAttendanceButton.setPreferredSize(new Dimension(180, 30));
         unmarkAttendanceButton.setPreferredSize(new Dimension(180, 30));
+        markAbsentButton.setPreferredSize(new Dimension(180, 30));
         checkAttendanceButton.setPreferredSize(new Dimension(180, 30));
         endOfSemesterButton.setPreferredSize(new Dimension(180, 30));
 
         buttonPanel.add(markAttendanceButton);
         buttonPanel.add(unmarkAttendanceButton);
+        buttonPanel.add(markAbsentButton);
         buttonPanel.add(checkAttendanceButton);
         buttonPanel.add(endOfSemesterButton);
 
@@ -45,7 +49,7 @@ class AttendanceTrackerGUI extends JPanel {
         attendanceStatusLabel = new JLabel("Select a subject to begin.", SwingConstants.CENTER);
         detailedStatusLabel = new JLabel("", SwingConstants.CENTER);
         detailedStatusLabel.setVerticalAlignment(SwingConstants.TOP);
-        detailedStatusLabel.setPreferredSize(new Dimension(380, 100));
+        detailedStatusLabel.setPreferredSize(new Dimension(380, 140));
         statusPanel.add(attendanceStatusLabel, BorderLayout.NORTH);
         statusPanel.add(detailedStatusLabel, BorderLayout.CENTER);
 
@@ -55,15 +59,25 @@ class AttendanceTrackerGUI extends JPanel {
 
         markAttendanceButton.setEnabled(false);
         unmarkAttendanceButton.setEnabled(false);
+        markAbsentButton.setEnabled(false);
         checkAttendanceButton.setEnabled(false);
         endOfSemesterButton.setEnabled(false);
-        subjectsMap = loadSubjectsFromCSV();
-        subjectsMap.keySet().forEach(subjectComboBox::addItem);
+        subjectComboBox.setModel(new DefaultComboBoxModel<>(subjectNames()));
+
+        EventBus bus = EventBus.get();
+        bus.subscribe(AppEvents.SubjectAdded.class, event -> subjectComboBox.addItem(event.subject.getSubName()));
+        bus.subscribe(AppEvents.SubjectRemoved.class, event -> subjectComboBox.removeItem(event.subName));
+        bus.subscribe(AppEvents.SubjectsReloaded.class, event -> {
+            Object selected = subjectComboBox.getSelectedItem();
+            subjectComboBox.setModel(new DefaultComboBoxModel<>(subjectNames()));
+            if (selected != null) subjectComboBox.setSelectedItem(selected);
+        });
 
         subjectComboBox.addActionListener(e -> {
             if (subjectComboBox.getSelectedItem() != null) {
                 markAttendanceButton.setEnabled(true);
                 unmarkAttendanceButton.setEnabled(true);
+                markAbsentButton.setEnabled(true);
                 checkAttendanceButton.setEnabled(true);
                 endOfSemesterButton.setEnabled(true);
                 attendanceStatusLabel.setText("Selected: " + subjectComboBox.getSelectedItem());
@@ -74,10 +88,7 @@ class AttendanceTrackerGUI extends JPanel {
         markAttendanceButton.addActionListener(e -> {
             String selectedSubject = (String) subjectComboBox.getSelectedItem();
             if (selectedSubject != null) {
-                SubjectData data = subjectsMap.get(selectedSubject);
-                if (data != null) {
-                    data.incrementClassesAttended();
-                    saveSubjectsToCSV();
+                if (repository.markAttendance(selectedSubject, 1) != null) {
                     attendanceStatusLabel.setText("Attendance marked for " + selectedSubject);
                     detailedStatusLabel.setText(""); 
                 }
@@ -87,12 +98,21 @@ class AttendanceTrackerGUI extends JPanel {
         unmarkAttendanceButton.addActionListener(e -> {
             String selectedSubject = (String) subjectComboBox.getSelectedItem();
             if (selectedSubject != null) {
-                SubjectData data = subjectsMap.get(selectedSubject);
-                if (data != null) {
-                    data.decrementClassesAttended();
-                    saveSubjectsToCSV();
+                if (repository.markAttendance(selectedSubject, -1) != null) {
                     attendanceStatusLabel.setText("Attendance unmarked for " + selectedSubject);
-                    detailedStatusLabel.setText(""); 
+                } else {
+                    attendanceStatusLabel.setText("No attendance marked today for " + selectedSubject);
+                }
+                detailedStatusLabel.setText("");
+            }
+        });
+
+        markAbsentButton.addActionListener(e -> {
+            String selectedSubject = (String) subjectComboBox.getSelectedItem();
+            if (selectedSubject != null) {
+                if (repository.markAbsent(selectedSubject) != null) {
+                    attendanceStatusLabel.setText("Absence recorded for " + selectedSubject);
+                    detailedStatusLabel.setText("");
                 }
             }
         });
@@ -100,13 +120,18 @@ class AttendanceTrackerGUI extends JPanel {
         checkAttendanceButton.addActionListener(e -> {
             String selectedSubject = (String) subjectComboBox.getSelectedItem();
             if (selectedSubject != null) {
-                SubjectData data = subjectsMap.get(selectedSubject);
+                Subject data = repository.find(selectedSubject);
                 if (data != null) {
                     float currentPercentage = data.calculateAttendancePercentage();
                     int requiredClasses = data.calculateClassesNeeded();
+                    AttendanceHistory history = repository.history();
+                    double monthPercentage = history.percentageForMonth(selectedSubject, LocalDate.now());
                     String statusMessage = String.format(
-                        "<html>Classes Attended: %d<br>Total Classes: %d<br>Current Attendance: %.2f%%<br>Required Attendance: %d%%<br>More Classes Needed: %d</html>",
-                        data.getClassesAttended(), data.getTotalClasses(), currentPercentage, data.getPercentageGoal(), Math.max(0, requiredClasses)
+                        "<html>Classes Attended: %d<br>Total Classes: %d<br>Current Attendance: %.2f%%<br>Required Attendance: %d%%<br>More Classes Needed: %d"
+                            + "<br>This Month: %s<br>Longest Absence Streak: %d classes</html>",
+                        data.getClassAttended(), data.getTotalClass(), currentPercentage, data.getTargetedAttendance(), Math.max(0, requiredClasses),
+                        Double.isNaN(monthPercentage) ? "no classes recorded" : String.format("%.2f%%", monthPercentage),
+                        history.longestAbsenceStreak(selectedSubject)
                     );
                     detailedStatusLabel.setText(statusMessage);
                 }
@@ -116,10 +141,10 @@ class AttendanceTrackerGUI extends JPanel {
         endOfSemesterButton.addActionListener(e -> {
             String selectedSubject = (String) subjectComboBox.getSelectedItem();
             if (selectedSubject != null) {
-                SubjectData data = subjectsMap.get(selectedSubject);
+                Subject data = repository.find(selectedSubject);
                 if (data != null) {
                     float currentPercentage = data.calculateAttendancePercentage();
-                    if (currentPercentage >= data.getPercentageGoal()) {
+                    if (currentPercentage >= data.getTargetedAttendance()) {
                         attendanceStatusLabel.setText("Attendance Satisfied");
                     } else {
                         attendanceStatusLabel.setText("RC");
@@ -129,49 +154,13 @@ class AttendanceTrackerGUI extends JPanel {
         });
     }
 
-    private Map<String, SubjectData> loadSubjectsFromCSV() {
-        Map<String, SubjectData> map = new HashMap<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(CSV_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length == 4) {
-                    String subjectName = parts[0];
-                    int totalClasses = Integer.parseInt(parts[1]);
-                    int classesAttended = Integer.parseInt(parts[2]);
-                    int percentageGoal = Integer.parseInt(parts[3]);
-                    map.put(subjectName, new SubjectData(totalClasses, classesAttended, percentageGoal));
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return map;
-    }
-
-    private void saveSubjectsToCSV() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(CSV_FILE))) {
-            for (Map.Entry<String, SubjectData> entry : subjectsMap.entrySet()) {
-                String subjectName = entry.getKey();
-                SubjectData data = entry.getValue();
-                bw.write(subjectName + "," + data.getTotalClasses() + "," + data.getClassesAttended() + "," + data.getPercentageGoal());
-                bw.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+    private String[] subjectNames() {
+        List<Subject> subjects = repository.snapshot();
+        String[] names = new String[subjects.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = subjects.get(i).getSubName();
         }
-    }
-
-    public void refreshData() {
-        subjectsMap = loadSubjectsFromCSV();
-        subjectComboBox.removeAllItems();
-        subjectsMap.keySet().forEach(subjectComboBox::addItem);
-        attendanceStatusLabel.setText("Select a subject to begin.");
-        detailedStatusLabel.setText("");
-        markAttendanceButton.setEnabled(false);
-        unmarkAttendanceButton.setEnabled(false);
-        checkAttendanceButton.setEnabled(false);
-        endOfSemesterButton.setEnabled(false);
+        return names;
     }
 
     public static void main(String[] args) {
@@ -185,46 +174,3 @@ class AttendanceTrackerGUI extends JPanel {
         });
     }
 }
-
-class SubjectData {
-    private final int totalClasses;
-    private int classesAttended;
-    private final int percentageGoal;
-
-    public SubjectData(int totalClasses, int classesAttended, int percentageGoal) {
-        this.totalClasses = totalClasses;
-        this.classesAttended = classesAttended;
-        this.percentageGoal = percentageGoal;
-    }
-
-    public int getTotalClasses() {
-        return totalClasses;
-    }
-
-    public int getClassesAttended() {
-        return classesAttended;
-    }
-
-    public int getPercentageGoal() {
-        return percentageGoal;
-    }
-
-    public void incrementClassesAttended() {
-        classesAttended++; 
-    }
-
-    public void decrementClassesAttended() {
-        if (classesAttended > 0) {
-            classesAttended--; 
-        }
-    }
-
-    public float calculateAttendancePercentage() {
-        return ((float) classesAttended / totalClasses) * 100;
-    }
-
-    public int calculateClassesNeeded() {
-        float requiredAttendance = (percentageGoal / 100f) * totalClasses;
-        return (int) Math.ceil(requiredAttendance) - classesAttended;
-    }
-}
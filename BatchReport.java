@@ -0,0 +1,139 @@
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Headless entry point: java BatchReport [--threads N] <dir>...
+// Each dir holding the app's CSV files gets a report.txt; any other dir is treated as a parent of student dirs.
+public class BatchReport {
+    static final String REPORT_FILE = "report.txt";
+    private static final String[] DATA_FILES = {"Goals.csv", "Tasks.csv", SubjectRepository.SUBJECTS_FILE, HealthSeries.FILE};
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Path> roots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--threads".equals(args[i]) && i + 1 < args.length) {
+                threads = Math.max(1, Integer.parseInt(args[++i]));
+            } else {
+                roots.add(Paths.get(args[i]));
+            }
+        }
+        if (roots.isEmpty()) {
+            System.err.println("Usage: java BatchReport [--threads N] <dir>...");
+            System.exit(2);
+        }
+
+        // A short bounded queue plus caller-runs keeps only a few directories' data in memory at once.
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long start = System.nanoTime();
+
+        for (Path root : roots) {
+            if (isDataDir(root)) {
+                submit(pool, root, processed, failed);
+                continue;
+            }
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(root, Files::isDirectory)) {
+                for (Path child : children) {
+                    if (isDataDir(child)) submit(pool, child, processed, failed);
+                }
+            } catch (IOException e) {
+                System.err.println(root + ": " + e.getMessage());
+                failed.incrementAndGet();
+            }
+        }
+
+        pool.shutdown();
+        pool.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        System.out.println("Processed " + processed.get() + " director" + (processed.get() == 1 ? "y" : "ies")
+                + ", " + failed.get() + " failed, in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        System.exit(failed.get() == 0 ? 0 : 1);
+    }
+
+    private static boolean isDataDir(Path dir) {
+        for (String fileName : DATA_FILES) {
+            if (Files.isRegularFile(dir.resolve(fileName))) return true;
+        }
+        return false;
+    }
+
+    private static void submit(ThreadPoolExecutor pool, Path dir, AtomicInteger processed, AtomicInteger failed) {
+        pool.execute(() -> {
+            try {
+                PersistenceExecutor.writeAtomically(dir.resolve(REPORT_FILE), report(dir, LocalDate.now()));
+                processed.incrementAndGet();
+            } catch (IOException | RuntimeException e) {
+                System.err.println(dir + ": " + e);
+                failed.incrementAndGet();
+            }
+        });
+    }
+
+    static List<String> report(Path dir, LocalDate today) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("Report for " + dir.toAbsolutePath().normalize() + " (" + today + ")");
+
+        lines.add("");
+        lines.add("Goals:");
+        GoalManager goalManager = new GoalManager();
+        Path goalsFile = dir.resolve("Goals.csv");
+        if (Files.exists(goalsFile)) {
+            goalManager.loadGoals(goalsFile);
+            Path tasksFile = dir.resolve("Tasks.csv");
+            if (Files.exists(tasksFile)) goalManager.loadTasks(tasksFile);
+        }
+        for (Goal goal : goalManager.getGoals()) {
+            String savedStatus = goal.getStatus();
+            goal.updateProgress();
+            String line = "  " + goal.getName() + ": " + goal.getCurrentProgress() + "% of " + goal.getTargetProgress()
+                    + "%, " + goal.getCompletedTaskCount() + "/" + goal.getTasks().size() + " tasks, due "
+                    + goal.getDeadline() + " - " + goal.getStatus();
+            if (!goal.getStatus().equals(savedStatus)) line += " (saved as " + savedStatus + ")";
+            lines.add(line);
+        }
+        if (goalManager.getGoals().isEmpty()) lines.add("  No goals.");
+
+        lines.add("");
+        lines.add("Attendance:");
+        List<Subject> subjects = AttendanceJournal.read(dir.resolve(SubjectRepository.SUBJECTS_FILE),
+                dir.resolve(SubjectRepository.JOURNAL_FILE));
+        for (Subject subject : subjects) {
+            int needed = subject.calculateClassesNeeded();
+            lines.add(String.format("  %s: %.1f%% (%d/%d), target %d%% - %s", subject.getSubName().trim(),
+                    subject.calculateAttendancePercentage(), subject.getClassAttended(), subject.getTotalClass(),
+                    subject.getTargetedAttendance(), needed > 0 ? "short by " + needed + " classes" : "on track"));
+        }
+        if (subjects.isEmpty()) lines.add("  No subjects.");
+
+        lines.add("");
+        HealthSeries health = HealthSeries.load(dir.resolve(HealthSeries.FILE));
+        if (health.isEmpty()) {
+            lines.add("No health data.");
+        } else {
+            LocalDate last = health.lastDate();
+            for (int days : new int[]{7, 30, 90}) {
+                HealthSeries.Stats stats = health.trailing(last, days);
+                lines.add(String.format("Last %d days to %s: sleep %.1f h over %d days, energy %.1f over %d days, sleep/energy r %s",
+                        days, last, stats.sleepMean, stats.sleepDays, stats.energyMean, stats.energyDays,
+                        Double.isNaN(stats.correlation) ? "-" : String.format("%.2f", stats.correlation)));
+            }
+            InsightsEngine insights = InsightsEngine.load(health, dir.resolve(InsightsEngine.CONFIG_FILE));
+            for (String tip : insights.tips(last.minusDays(6), last).split("\n")) {
+                lines.add(tip);
+            }
+        }
+        return lines;
+    }
+}
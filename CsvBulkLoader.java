@@ -0,0 +1,105 @@
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+final class CsvBulkLoader {
+    static final long PARALLEL_THRESHOLD_BYTES = 1 << 20;
+
+    interface RowMapper<T> {
+        T map(CsvCodec.Cursor cursor);
+    }
+
+    private CsvBulkLoader() {
+    }
+
+    static <T> List<T> load(Path file, RowMapper<T> mapper) throws IOException {
+        if (Files.size(file) < PARALLEL_THRESHOLD_BYTES) {
+            List<T> rows = new ArrayList<>();
+            try (CsvCodec.Cursor cursor = CsvCodec.open(file)) {
+                parseInto(cursor, mapper, rows);
+            }
+            return rows;
+        }
+
+        String text = new String(Files.readAllBytes(file), CsvCodec.CHARSET);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int[] bounds = chunkBounds(text, pool.getParallelism() * 4);
+        return pool.invoke(new ChunkTask<>(text, bounds, 0, bounds.length - 1, mapper));
+    }
+
+    // Splits only at newlines outside quoted fields, so no record straddles two chunks.
+    static int[] chunkBounds(String text, int chunks) {
+        int targetSize = Math.max(1, text.length() / chunks);
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(0);
+        int nextTarget = targetSize;
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\n' && !quoted && i + 1 >= nextTarget && i + 1 < text.length()) {
+                bounds.add(i + 1);
+                nextTarget = i + 1 + targetSize;
+            }
+        }
+        bounds.add(text.length());
+
+        int[] result = new int[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static <T> void parseInto(CsvCodec.Cursor cursor, RowMapper<T> mapper, List<T> rows) throws IOException {
+        while (cursor.next()) {
+            T row = mapper.map(cursor);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+    }
+
+    private static class ChunkTask<T> extends RecursiveTask<List<T>> {
+        private final String text;
+        private final int[] bounds;
+        private final int from;
+        private final int to;
+        private final RowMapper<T> mapper;
+
+        ChunkTask(String text, int[] bounds, int from, int to, RowMapper<T> mapper) {
+            this.text = text;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= 1) {
+                List<T> rows = new ArrayList<>();
+                try (CsvCodec.Cursor cursor = CsvCodec.over(new StringReader(text.substring(bounds[from], bounds[to])))) {
+                    parseInto(cursor, mapper, rows);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return rows;
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask<T> left = new ChunkTask<>(text, bounds, from, mid, mapper);
+            ChunkTask<T> right = new ChunkTask<>(text, bounds, mid, to, mapper);
+            left.fork();
+            List<T> rightRows = right.compute();
+            List<T> rows = left.join();
+            rows.addAll(rightRows);
+            return rows;
+        }
+    }
+}
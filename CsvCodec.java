@@ -0,0 +1,251 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class CsvCodec {
+    static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    private static final ThreadLocal<StringBuilder> ROW_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private CsvCodec() {
+    }
+
+    static Cursor open(Path file) throws IOException {
+        return new Cursor(Files.newBufferedReader(file, CHARSET));
+    }
+
+    static Cursor over(Reader reader) {
+        return new Cursor(reader);
+    }
+
+    static List<String[]> readAll(Path file) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (Cursor cursor = open(file)) {
+            while (cursor.next()) {
+                rows.add(cursor.toArray());
+            }
+        }
+        return rows;
+    }
+
+    static String formatRow(String... fields) {
+        StringBuilder sb = ROW_BUFFER.get();
+        sb.setLength(0);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) sb.append(',');
+            appendField(sb, fields[i]);
+        }
+        return sb.toString();
+    }
+
+    static String formatRow(List<String> fields) {
+        return formatRow(fields.toArray(new String[0]));
+    }
+
+    private static void appendField(StringBuilder sb, String field) {
+        if (field == null) return;
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                needsQuotes = true;
+                break;
+            }
+        }
+        if (!needsQuotes) {
+            sb.append(field);
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') sb.append('"');
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    static final class Cursor implements Closeable {
+        private final Reader reader;
+        private final char[] readBuffer = new char[8192];
+        private int readPos;
+        private int readLimit;
+
+        private char[] chars = new char[256];
+        private int[] starts = new int[8];
+        private int[] ends = new int[8];
+        private int fieldCount;
+
+        private Cursor(Reader reader) {
+            this.reader = reader;
+        }
+
+        boolean next() throws IOException {
+            fieldCount = 0;
+            int length = 0;
+            int fieldStart = 0;
+            boolean quoted = false;
+            boolean sawAny = false;
+
+            while (true) {
+                int c = read();
+                if (c < 0) {
+                    if (!sawAny) return false;
+                    addField(fieldStart, length);
+                    return true;
+                }
+                sawAny = true;
+                if (quoted) {
+                    if (c == '"') {
+                        if (peek() == '"') {
+                            read();
+                            length = put(length, '"');
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        length = put(length, (char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    addField(fieldStart, length);
+                    fieldStart = length;
+                } else if (c == '\n') {
+                    addField(fieldStart, length);
+                    return true;
+                } else if (c == '\r') {
+                    if (peek() == '\n') read();
+                    addField(fieldStart, length);
+                    return true;
+                } else {
+                    length = put(length, (char) c);
+                }
+            }
+        }
+
+        int fieldCount() {
+            return fieldCount;
+        }
+
+        String field(int index) {
+            checkIndex(index);
+            return new String(chars, starts[index], ends[index] - starts[index]);
+        }
+
+        boolean fieldEquals(int index, String value) {
+            return regionMatches(index, value, false);
+        }
+
+        int intField(int index) {
+            checkIndex(index);
+            int start = starts[index];
+            int end = ends[index];
+            while (start < end && Character.isWhitespace(chars[start])) start++;
+            while (end > start && Character.isWhitespace(chars[end - 1])) end--;
+            if (start == end) throw new NumberFormatException("Empty field " + index);
+
+            boolean negative = chars[start] == '-';
+            if (negative || chars[start] == '+') start++;
+            if (start == end) throw new NumberFormatException("For input string: \"" + field(index) + "\"");
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = chars[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException("For input string: \"" + field(index) + "\"");
+                }
+                value = value * 10 + digit;
+                if (value > (long) Integer.MAX_VALUE + 1) {
+                    throw new NumberFormatException("For input string: \"" + field(index) + "\"");
+                }
+            }
+            if (negative) value = -value;
+            if (value > Integer.MAX_VALUE) {
+                throw new NumberFormatException("For input string: \"" + field(index) + "\"");
+            }
+            return (int) value;
+        }
+
+        double doubleField(int index) {
+            return Double.parseDouble(field(index).trim());
+        }
+
+        boolean booleanField(int index) {
+            return regionMatches(index, "true", true);
+        }
+
+        String[] toArray() {
+            String[] fields = new String[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                fields[i] = field(i);
+            }
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private boolean regionMatches(int index, String value, boolean ignoreCase) {
+            checkIndex(index);
+            int length = ends[index] - starts[index];
+            if (length != value.length()) return false;
+            for (int i = 0; i < length; i++) {
+                char c = chars[starts[index] + i];
+                char v = value.charAt(i);
+                if (c != v && !(ignoreCase && Character.toLowerCase(c) == Character.toLowerCase(v))) return false;
+            }
+            return true;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= fieldCount) {
+                throw new IndexOutOfBoundsException("Field " + index + " of " + fieldCount);
+            }
+        }
+
+        private int put(int length, char c) {
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+            chars[length] = c;
+            return length + 1;
+        }
+
+        private void addField(int start, int end) {
+            if (fieldCount == starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            starts[fieldCount] = start;
+            ends[fieldCount] = end;
+            fieldCount++;
+        }
+
+        private int read() throws IOException {
+            if (readPos == readLimit && !fill()) return -1;
+            return readBuffer[readPos++];
+        }
+
+        private int peek() throws IOException {
+            if (readPos == readLimit && !fill()) return -1;
+            return readBuffer[readPos];
+        }
+
+        private boolean fill() throws IOException {
+            int n = reader.read(readBuffer, 0, readBuffer.length);
+            if (n <= 0) return false;
+            readPos = 0;
+            readLimit = n;
+            return true;
+        }
+    }
+}
@@ -3,26 +3,40 @@ import javax.swing.border.Border;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class Dashboard extends JPanel {
-    private List<String[]> goalsData = new ArrayList<>();
-    private List<String[]> subjectsData = new ArrayList<>();
-    private List<String[]> tasksData = new ArrayList<>();
-    private List<String[]> timetableData = new ArrayList<>();
+    private static final String TASKS_FILE = "Tasks.csv";
+    private static final String TIMETABLE_FILE = "Timetable.csv";
+
+    private static final DateTimeFormatter CLOCK_FORMAT = DateTimeFormatter.ofPattern("hh:mm a");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEEE");
+    private static final Font CLASS_FONT = new Font("Arial", Font.PLAIN, 14);
+    private static final Border CLASS_BORDER = BorderFactory.createLineBorder(Color.BLACK);
+    private static final Color PLAY_COLOR = new Color(255, 182, 193);
+    private static final Color STUDY_COLOR = new Color(144, 238, 144);
+    private static final Color REST_COLOR = new Color(255, 255, 224);
+    private static final Color CLASS_COLOR = new Color(173, 216, 230);
+    private static final int DEFAULT_PERIODS = 9;
+
+    private List<String[]> tasksData;
+    private List<String[]> timetableData;
+    private LocalDate shownDate = LocalDate.now();
+    private long shownMinute = -1;
 
     private JLabel clockLabel;
     private JLabel dayLabel;
     private JPanel classesPanel;
-    private JLabel tasksLabel;
-    private JLabel attendanceLabel;
+    private final List<JLabel> classLabels = new ArrayList<>();
+    private final JLabel noClassesLabel = createClassLabel();
+    private int shownClassCount = -1;
+    private final RowListModel<String[]> tasksModel = new RowListModel<>();
+    private final RowListModel<Subject> attendanceModel = new RowListModel<>();
 
     public Dashboard() {
         
@@ -45,24 +59,18 @@ public class Dashboard extends JPanel {
         this.add(currentDateTimePanel);
 
         JPanel todayClassesPanel = new JPanel(new BorderLayout());
-        classesPanel = new JPanel(new GridLayout(1, 9));
+        classesPanel = new JPanel(new GridLayout(1, DEFAULT_PERIODS));
         todayClassesPanel.add(classesPanel, BorderLayout.CENTER);
         todayClassesPanel.setBorder(border);
         this.add(todayClassesPanel);
 
         JPanel tasksPanel = new JPanel(new BorderLayout());
-        tasksLabel = new JLabel();
-        tasksLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        tasksLabel.setFont(new Font("Arial", Font.PLAIN, 18));
-        tasksPanel.add(tasksLabel, BorderLayout.CENTER);
+        tasksPanel.add(createRowList(tasksModel, new TaskRenderer()), BorderLayout.CENTER);
         tasksPanel.setBorder(border);
         this.add(tasksPanel);
 
         JPanel attendancePanel = new JPanel(new BorderLayout());
-        attendanceLabel = new JLabel();
-        attendanceLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        attendanceLabel.setFont(new Font("Arial", Font.PLAIN, 18));
-        attendancePanel.add(attendanceLabel, BorderLayout.CENTER);
+        attendancePanel.add(createRowList(attendanceModel, new AttendanceRenderer()), BorderLayout.CENTER);
         attendancePanel.setBorder(border);
         this.add(attendancePanel);
 
@@ -70,104 +78,210 @@ public class Dashboard extends JPanel {
             @Override
             public void actionPerformed(ActionEvent e) {
                 updateClock();
-                updateData();
             }
         });
         timer.start();
 
-        updateData();
+        DataStore store = DataStore.get();
+        DataStore.Listener listener = this::onDataChanged;
+        for (String fileName : new String[]{TASKS_FILE, TIMETABLE_FILE}) {
+            store.addListener(fileName, listener);
+        }
+
+        timetableData = store.rows(TIMETABLE_FILE);
+        updateClock();
+        updateTodaysClasses();
+        setTaskRows(store.rows(TASKS_FILE));
+        attendanceModel.setRows(SubjectRepository.get().snapshot());
+
+        EventBus bus = EventBus.get();
+        bus.subscribe(AppEvents.SubjectEvent.class, event -> attendanceModel.setRows(event.snapshot));
+        bus.subscribe(AppEvents.TaskAdded.class, event -> {
+            int index = tasksData.size();
+            for (int i = tasksData.size() - 1; i >= 0; i--) {
+                if (tasksData.get(i)[0].equals(event.goal.getName())) {
+                    index = i + 1;
+                    break;
+                }
+            }
+            String[] row = taskRow(event.goal, event.task);
+            tasksData.add(index, row);
+            tasksModel.insert(index, row);
+        });
+        bus.subscribe(AppEvents.TaskRemoved.class, event -> {
+            int index = indexOfTask(event.goal, event.task, event.task.isComplete());
+            if (index == -1) return;
+            tasksData.remove(index);
+            tasksModel.remove(index);
+        });
+        bus.subscribe(AppEvents.TaskToggled.class, event -> {
+            int index = indexOfTask(event.goal, event.task, !event.task.isComplete());
+            if (index == -1) return;
+            String[] row = taskRow(event.goal, event.task);
+            tasksData.set(index, row);
+            tasksModel.set(index, row);
+        });
+        bus.subscribe(AppEvents.GoalRemoved.class, event -> {
+            for (int i = tasksData.size() - 1; i >= 0; i--) {
+                if (tasksData.get(i)[0].equals(event.goal.getName())) {
+                    tasksData.remove(i);
+                    tasksModel.remove(i);
+                }
+            }
+        });
+        bus.subscribe(AppEvents.TimetableEdited.class, event -> {
+            timetableData = Arrays.asList(event.cells);
+            updateTodaysClasses();
+        });
     }
 
-     private void updateClock() {
-        LocalDateTime now = LocalDateTime.now();
-        clockLabel.setText(now.format(DateTimeFormatter.ofPattern("hh:mm a"))); 
-        dayLabel.setText(now.format(DateTimeFormatter.ofPattern("EEEE")));
+    private int indexOfTask(Goal goal, Task task, boolean complete) {
+        for (int i = 0; i < tasksData.size(); i++) {
+            String[] row = tasksData.get(i);
+            if (row[0].equals(goal.getName()) && row[1].equals(task.getDescription())
+                    && Boolean.parseBoolean(row[2]) == complete) {
+                return i;
+            }
+        }
+        return -1;
     }
 
-    private void updateData() {
-        readCSV("Goals.csv", goalsData);
-        readCSV("subjects.csv", subjectsData);
-        readCSV("Tasks.csv", tasksData);
-        readCSV("Timetable.csv", timetableData);
-        updateTodaysClasses();
-        tasksLabel.setText(getTasks());
-        attendanceLabel.setText(getAttendance());
+    private static String[] taskRow(Goal goal, Task task) {
+        return new String[]{goal.getName(), task.getDescription(), String.valueOf(task.isComplete())};
     }
 
-    private void readCSV(String filePath, List<String[]> dataList) {
-        dataList.clear();
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                dataList.add(line.split(","));
+    private void setTaskRows(List<String[]> rows) {
+        List<String[]> tasks = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            if (row.length > 2) {
+                tasks.add(row);
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+        }
+        tasksData = tasks;
+        tasksModel.setRows(tasks);
+    }
+
+    private static <T> JScrollPane createRowList(RowListModel<T> model, ListCellRenderer<Object> renderer) {
+        JList<T> list = new JList<>(model);
+        list.setCellRenderer(renderer);
+        list.setFont(new Font("Arial", Font.PLAIN, 18));
+        list.setFixedCellHeight(24);
+        list.setFocusable(false);
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        return scrollPane;
+    }
+
+    private void updateClock() {
+        long minute = System.currentTimeMillis() / 60_000;
+        if (minute == shownMinute) return;
+        shownMinute = minute;
+
+        LocalDateTime now = LocalDateTime.now();
+        clockLabel.setText(now.format(CLOCK_FORMAT)); 
+        if (dayLabel.getText().isEmpty() || !now.toLocalDate().equals(shownDate)) {
+            dayLabel.setText(now.format(DAY_FORMAT));
+        }
+        if (!now.toLocalDate().equals(shownDate)) {
+            shownDate = now.toLocalDate();
+            updateTodaysClasses();
+        }
+    }
+
+    private void onDataChanged(String fileName, List<String[]> rows) {
+        switch (fileName) {
+            case TASKS_FILE:
+                setTaskRows(rows);
+                break;
+            case TIMETABLE_FILE:
+                timetableData = rows;
+                updateTodaysClasses();
+                break;
         }
     }
 
     private void updateTodaysClasses() {
-        classesPanel.removeAll();
-        int dayOfWeek = LocalDate.now().getDayOfWeek().getValue() - 1; 
+        int dayOfWeek = shownDate.getDayOfWeek().getValue() - 1; 
 
-        boolean hasClasses = false;
+        int count = 0;
         for (String[] row : timetableData) {
             if (row.length > dayOfWeek) {
                 String className = row[dayOfWeek].trim();
-                JLabel classLabel = new JLabel(className, SwingConstants.CENTER);
-                classLabel.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                classLabel.setFont(new Font("Arial", Font.PLAIN, 14));
-                classLabel.setOpaque(true); 
-                switch (className.toLowerCase()) {
-                    case "play":
-                        classLabel.setBackground(new Color(255, 182, 193)); 
-                        break;
-                    case "study":
-                        classLabel.setBackground(new Color(144, 238, 144)); 
-                        break;
-                    case "rest":
-                        classLabel.setBackground(new Color(255, 255, 224)); 
-                        break;
-                    default:
-                        classLabel.setBackground(new Color(173, 216, 230)); 
-                        break;
+                if (count == classLabels.size()) {
+                    classLabels.add(createClassLabel());
+                }
+                JLabel classLabel = classLabels.get(count++);
+                if (!className.equals(classLabel.getText())) {
+                    classLabel.setText(className);
+                    classLabel.setBackground(colorFor(className));
                 }
-                classesPanel.add(classLabel);
-                hasClasses = true;
             }
         }
-        if (!hasClasses) {
-            JLabel noClassesLabel = new JLabel("No classes", SwingConstants.CENTER);
-            noClassesLabel.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-            noClassesLabel.setFont(new Font("Arial", Font.PLAIN, 14));
-            classesPanel.add(noClassesLabel);
+
+        if (count != shownClassCount) {
+            shownClassCount = count;
+            classesPanel.removeAll();
+            if (count == 0) {
+                noClassesLabel.setText("No classes");
+                classesPanel.add(noClassesLabel);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    classesPanel.add(classLabels.get(i));
+                }
+            }
+            classesPanel.revalidate();
+            classesPanel.repaint();
         }
-        classesPanel.revalidate();
-        classesPanel.repaint();
     }
 
-    private String getTasks() {
-        StringBuilder tasks = new StringBuilder("<html>");
-        for (String[] row : tasksData) {
-            if (row.length > 2) {
-                boolean isDone = Boolean.parseBoolean(row[2]);
-                String status = isDone ? "Done" : "Not Done";
-                tasks.append(row[0]).append(": ").append(row[1]).append(" - ").append(status).append("<br>");
-            }
+    private static JLabel createClassLabel() {
+        JLabel classLabel = new JLabel("", SwingConstants.CENTER);
+        classLabel.setBorder(CLASS_BORDER);
+        classLabel.setFont(CLASS_FONT);
+        classLabel.setOpaque(true); 
+        return classLabel;
+    }
+
+    private static Color colorFor(String className) {
+        if (className.equalsIgnoreCase("play")) return PLAY_COLOR;
+        if (className.equalsIgnoreCase("study")) return STUDY_COLOR;
+        if (className.equalsIgnoreCase("rest")) return REST_COLOR;
+        return CLASS_COLOR;
+    }
+
+    private abstract static class RowRenderer extends DefaultListCellRenderer {
+        protected final StringBuilder text = new StringBuilder();
+
+        RowRenderer() {
+            setHorizontalAlignment(SwingConstants.CENTER);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            text.setLength(0);
+            format(value);
+            return super.getListCellRendererComponent(list, text.toString(), index, isSelected, cellHasFocus);
         }
-        tasks.append("</html>");
-        return tasks.toString();
+
+        abstract void format(Object value);
     }
 
-    private String getAttendance() {
-        StringBuilder attendance = new StringBuilder("<html>");
-        for (String[] row : subjectsData) {
-            if (row.length > 3) {
-                attendance.append(row[0]).append(": ").append(row[2]).append("/").append(row[3]).append("<br>");
-            }
+    private static class TaskRenderer extends RowRenderer {
+        @Override
+        void format(Object value) {
+            String[] row = (String[]) value;
+            boolean isDone = Boolean.parseBoolean(row[2]);
+            text.append(row[0]).append(": ").append(row[1]).append(" - ").append(isDone ? "Done" : "Not Done");
+        }
+    }
+
+    private static class AttendanceRenderer extends RowRenderer {
+        @Override
+        void format(Object value) {
+            Subject subject = (Subject) value;
+            text.append(subject.getSubName()).append(": ").append(subject.getClassAttended()).append("/").append(subject.getTargetedAttendance());
         }
-        attendance.append("</html>");
-        return attendance.toString();
     }
 
     public static void main(String[] args) {
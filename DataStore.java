@@ -0,0 +1,121 @@
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class DataStore {
+    interface Listener {
+        void dataChanged(String fileName, List<String[]> rows);
+    }
+
+    private static final DataStore INSTANCE = new DataStore(Paths.get("."));
+
+    private final Path dataDir;
+    private final Map<String, List<String[]>> cache = new ConcurrentHashMap<>();
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+    private Thread watcherThread;
+
+    DataStore(Path dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    static DataStore get() {
+        return INSTANCE;
+    }
+
+    List<String[]> rows(String fileName) {
+        startWatching();
+        return cache.computeIfAbsent(fileName, this::readRows);
+    }
+
+    // A listened-to file is watched even if its rows are never read.
+    void addListener(String fileName, Listener listener) {
+        listeners.computeIfAbsent(fileName, k -> new CopyOnWriteArrayList<>()).add(listener);
+        startWatching();
+    }
+
+    void removeListener(String fileName, Listener listener) {
+        List<Listener> fileListeners = listeners.get(fileName);
+        if (fileListeners != null) {
+            fileListeners.remove(listener);
+        }
+    }
+
+    void reload(String fileName) {
+        List<String[]> fresh = readRows(fileName);
+        List<String[]> old = cache.put(fileName, fresh);
+        if (old == null || !sameRows(old, fresh)) {
+            fireChanged(fileName, fresh);
+        }
+    }
+
+    private void fireChanged(String fileName, List<String[]> rows) {
+        List<Listener> fileListeners = listeners.get(fileName);
+        if (fileListeners == null || fileListeners.isEmpty()) return;
+        SwingUtilities.invokeLater(() -> {
+            for (Listener listener : fileListeners) {
+                listener.dataChanged(fileName, rows);
+            }
+        });
+    }
+
+    private synchronized void startWatching() {
+        if (watcherThread != null) return;
+        watcherThread = new Thread(this::watchLoop, "DataStore-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    private void watchLoop() {
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            dataDir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            while (true) {
+                WatchKey key = watcher.take();
+                Set<String> changed = new HashSet<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        changed.addAll(cache.keySet());
+                        changed.addAll(listeners.keySet());
+                        continue;
+                    }
+                    String fileName = ((Path) event.context()).getFileName().toString();
+                    if (cache.containsKey(fileName) || listeners.containsKey(fileName)) {
+                        changed.add(fileName);
+                    }
+                }
+                for (String fileName : changed) {
+                    reload(fileName);
+                }
+                if (!key.reset()) break;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<String[]> readRows(String fileName) {
+        List<String[]> rows = new ArrayList<>();
+        Path file = dataDir.resolve(fileName);
+        if (!Files.exists(file)) return Collections.unmodifiableList(rows);
+
+        try {
+            rows = CsvBulkLoader.load(file, CsvCodec.Cursor::toArray);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    private static boolean sameRows(List<String[]> a, List<String[]> b) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (!Arrays.equals(a.get(i), b.get(i))) return false;
+        }
+        return true;
+    }
+}
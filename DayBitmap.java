@@ -0,0 +1,116 @@
+import java.util.Arrays;
+import java.util.Base64;
+
+// One bit per calendar day, stored as 64-day words from the first word that has a bit set.
+// set/clear/get are O(1) (amortised when the range grows); counts over a range are popcounts.
+final class DayBitmap {
+    private long baseWord;
+    private long[] words = new long[0];
+
+    boolean get(long epochDay) {
+        int index = (int) ((epochDay >> 6) - baseWord);
+        return index >= 0 && index < words.length && (words[index] & (1L << epochDay)) != 0;
+    }
+
+    void set(long epochDay) {
+        int index = ensureWord(epochDay >> 6);
+        words[index] |= 1L << epochDay;
+    }
+
+    void clear(long epochDay) {
+        int index = (int) ((epochDay >> 6) - baseWord);
+        if (index >= 0 && index < words.length) words[index] &= ~(1L << epochDay);
+    }
+
+    boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    // Inclusive on both ends.
+    int count(long fromDay, long toDay) {
+        if (fromDay > toDay || words.length == 0) return 0;
+        long first = Math.max(fromDay, baseWord << 6);
+        long last = Math.min(toDay, ((baseWord + words.length) << 6) - 1);
+        if (first > last) return 0;
+        int firstIndex = (int) ((first >> 6) - baseWord);
+        int lastIndex = (int) ((last >> 6) - baseWord);
+        long firstMask = -1L << first;
+        long lastMask = -1L >>> (63 - (last & 63));
+        if (firstIndex == lastIndex) return Long.bitCount(words[firstIndex] & firstMask & lastMask);
+        int count = Long.bitCount(words[firstIndex] & firstMask) + Long.bitCount(words[lastIndex] & lastMask);
+        for (int i = firstIndex + 1; i < lastIndex; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    long first() {
+        return next(baseWord << 6);
+    }
+
+    // The first set day at or after fromDay, or Long.MIN_VALUE when there is none.
+    long next(long fromDay) {
+        int index = (int) Math.max(0, (fromDay >> 6) - baseWord);
+        if (index >= words.length) return Long.MIN_VALUE;
+        long word = words[index];
+        if ((fromDay >> 6) - baseWord == index) word &= -1L << fromDay;
+        while (true) {
+            if (word != 0) return ((baseWord + index) << 6) + Long.numberOfTrailingZeros(word);
+            if (++index == words.length) return Long.MIN_VALUE;
+            word = words[index];
+        }
+    }
+
+    // "firstDay:bits" with the bits from the first set day on packed eight to a byte and base64
+    // encoded, so a semester of one subject is a few dozen characters however often it alternates.
+    String encode() {
+        long first = first();
+        if (first == Long.MIN_VALUE) return "";
+        long last = first;
+        for (long day = first; day != Long.MIN_VALUE; day = next(day + 1)) {
+            last = day;
+        }
+        byte[] bits = new byte[(int) ((last - first) / 8 + 1)];
+        for (long day = first; day != Long.MIN_VALUE; day = next(day + 1)) {
+            int offset = (int) (day - first);
+            bits[offset >> 3] |= 1 << (offset & 7);
+        }
+        return first + ":" + Base64.getUrlEncoder().withoutPadding().encodeToString(bits);
+    }
+
+    static DayBitmap decode(String encoded) {
+        DayBitmap bitmap = new DayBitmap();
+        int colon = encoded.indexOf(':');
+        if (colon < 0) return bitmap;
+        long first = Long.parseLong(encoded.substring(0, colon).trim());
+        byte[] bits = Base64.getUrlDecoder().decode(encoded.substring(colon + 1).trim());
+        for (int offset = 0; offset < bits.length * 8; offset++) {
+            if ((bits[offset >> 3] & (1 << (offset & 7))) != 0) bitmap.set(first + offset);
+        }
+        return bitmap;
+    }
+
+    private int ensureWord(long word) {
+        if (words.length == 0) {
+            baseWord = word;
+            words = new long[4];
+            return 0;
+        }
+        if (word < baseWord) {
+            int shift = (int) (baseWord - word);
+            long[] grown = new long[words.length + shift];
+            System.arraycopy(words, 0, grown, shift, words.length);
+            words = grown;
+            baseWord = word;
+            return 0;
+        }
+        int index = (int) (word - baseWord);
+        if (index >= words.length) {
+            words = Arrays.copyOf(words, Math.max(index + 1, words.length * 2));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,152 @@
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// Wakes once per passed deadline instead of rescanning goals, whether or not the Goals tab has been
+// built. Goals.csv rows are diffed against what is scheduled, so only added or removed goals touch the
+// queue. A deadline passes at the start of the following day, matching Goal.refreshStatus's
+// isAfter(deadline) check.
+class DeadlineScheduler {
+    private static final String GOALS_FILE = "Goals.csv";
+    private static final String IN_PROGRESS = "In Progress";
+    private static final DeadlineScheduler INSTANCE = new DeadlineScheduler();
+
+    private final DelayQueue<Entry> queue = new DelayQueue<>();
+    private final Map<String, Entry> scheduled = new ConcurrentHashMap<>();
+    private Thread worker;
+
+    static DeadlineScheduler get() {
+        return INSTANCE;
+    }
+
+    void start() {
+        synchronized (this) {
+            if (worker != null) return;
+            worker = new Thread(this::run, "DeadlineScheduler");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        DataStore store = DataStore.get();
+        store.addListener(GOALS_FILE, (fileName, rows) -> sync(rows));
+        sync(store.rows(GOALS_FILE));
+    }
+
+    // Removed goals leave their entries queued; they are dropped when they expire, so a sync never scans the queue.
+    synchronized void sync(List<String[]> rows) {
+        Map<String, Entry> entries = new HashMap<>();
+        for (String[] row : rows) {
+            if (row.length < 5 || !IN_PROGRESS.equals(row[4].trim())) continue;
+            try {
+                LocalDate deadline = LocalDate.parse(row[2].trim());
+                String key = key(row[0], deadline);
+                long triggerMillis = deadline.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                entries.put(key, new Entry(key, triggerMillis));
+            } catch (DateTimeParseException e) {
+                // Unparsable rows have no deadline to wait for.
+            }
+        }
+        scheduled.keySet().retainAll(entries.keySet());
+        for (Entry entry : entries.values()) {
+            if (scheduled.putIfAbsent(entry.key, entry) == null) queue.add(entry);
+        }
+    }
+
+    int pendingCount() {
+        return scheduled.size();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                // Deadlines that pass together are handled in one pass, so one save covers all of them.
+                List<Entry> due = new ArrayList<>();
+                due.add(queue.take());
+                queue.drainTo(due);
+                Set<String> live = new HashSet<>();
+                for (Entry entry : due) {
+                    if (scheduled.remove(entry.key, entry)) live.add(entry.key);
+                }
+                if (!live.isEmpty()) deadlinesPassed(live);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Runs on the worker thread. Only the due goals' rows change; the rest are written back as read.
+    // An open Goals tab gets the events and saves its own list right after, which replaces this write
+    // if it still has changes of its own pending.
+    private void deadlinesPassed(Set<String> dueKeys) {
+        List<String[]> rows = DataStore.get().rows(GOALS_FILE);
+        List<String[]> updated = passDeadlines(rows, dueKeys);
+        List<String> lines = new ArrayList<>(updated.size());
+        List<String[]> changed = new ArrayList<>();
+        for (int i = 0; i < updated.size(); i++) {
+            lines.add(CsvCodec.formatRow(updated.get(i)));
+            if (updated.get(i) != rows.get(i)) changed.add(updated.get(i));
+        }
+        if (changed.isEmpty()) return;
+        PersistenceExecutor.get().save(GOALS_FILE, lines);
+        for (String[] row : changed) {
+            EventBus.get().publish(new AppEvents.GoalStatusChanged(row[0], row[4]));
+        }
+    }
+
+    // Re-derives the status of each in-progress row whose key is due, from the progress the row holds.
+    // Changed rows are new arrays; every other row is returned as the same instance.
+    static List<String[]> passDeadlines(List<String[]> rows, Set<String> dueKeys) {
+        List<String[]> updated = new ArrayList<>(rows);
+        for (int i = 0; i < updated.size(); i++) {
+            String[] row = updated.get(i);
+            if (row.length < 5 || !IN_PROGRESS.equals(row[4].trim())) continue;
+            try {
+                LocalDate deadline = LocalDate.parse(row[2].trim());
+                if (!dueKeys.contains(key(row[0], deadline))) continue;
+                Goal goal = new Goal(row[0], Integer.parseInt(row[1].trim()), deadline);
+                goal.setCurrentProgress(Integer.parseInt(row[3].trim()));
+                goal.refreshStatus();
+                if (goal.getStatus().equals(IN_PROGRESS)) continue;
+                String[] changed = row.clone();
+                changed[4] = goal.getStatus();
+                updated.set(i, changed);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                // Left as it is, like the goal loaders do.
+            }
+        }
+        return updated;
+    }
+
+    private static String key(String goalName, LocalDate deadline) {
+        return GoalManager.normalize(goalName) + "\u0000" + deadline;
+    }
+
+    private static final class Entry implements Delayed {
+        final String key;
+        final long triggerMillis;
+
+        Entry(String key, long triggerMillis) {
+            this.key = key;
+            this.triggerMillis = triggerMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(triggerMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(triggerMillis, ((Entry) other).triggerMillis);
+        }
+    }
+}
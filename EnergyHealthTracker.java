@@ -1,45 +1,52 @@
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.border.LineBorder;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.io.*;
+import java.awt.image.BufferedImage;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 
 public class EnergyHealthTracker extends JPanel {
+    private static final String[] WINDOWS = {"Week", "30 days", "90 days", "All"};
+    private static final int[] WINDOW_DAYS = {7, 30, 90, 0};
+    private static final int[] ROLLING_DAYS = {7, 30, 90};
+
+    private final HealthSeries series;
+    private final HealthTableModel tableModel;
+    private final InsightsEngine insights;
     private JTable inputTable;
     private JPanel graphPanel;
+    private JComboBox<String> windowBox;
+    private final JLabel[] rollingLabels = new JLabel[ROLLING_DAYS.length];
+    private LocalDate windowEnd = LocalDate.now();
+    private double[] sleepSeries = new double[0];
+    private BufferedImage graphImage;
+    private boolean graphDirty = true;
     private JTextArea tipsArea;
 
     public EnergyHealthTracker() {
         setLayout(new BorderLayout(10, 10));
         setPreferredSize(new Dimension(900, 700));
 
-        String[] columnNames = {"Day", "Hours of Sleep", "Energy Level (1-10)"};
-        String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
-        Object[][] data = new Object[7][3];
-
-        for (int i = 0; i < days.length; i++) {
-            data[i][0] = days[i];
-        }
-
-        DefaultTableModel model = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column != 0; 
-            }
-        };
+        series = loadDataFromCSV();
+        insights = new InsightsEngine(series, InsightsEngine.rules(InsightsEngine.sharedConfig()));
+        LocalDate monday = windowEnd.with(DayOfWeek.MONDAY);
+        tableModel = new HealthTableModel(series, monday, monday.plusDays(6));
+        tableModel.setOnEdit(date -> {
+            insights.dayChanged(date);
+            seriesChanged();
+        });
 
-        inputTable = new JTable(model);
+        inputTable = new JTable(tableModel);
         inputTable.setPreferredScrollableViewportSize(new Dimension(500, 120));
         inputTable.setFillsViewportHeight(true);
+        inputTable.setDefaultEditor(Object.class, new NumberEditor());
 
         inputTable.setRowHeight(25);
         inputTable.getTableHeader().setFont(new Font("Arial", Font.BOLD, 14));
         inputTable.setFont(new Font("Arial", Font.PLAIN, 12));
 
         JScrollPane tableScrollPane = new JScrollPane(inputTable);
-        tableScrollPane.setBorder(BorderFactory.createTitledBorder("Weekly Health Data"));
-
-        loadDataFromCSV();
+        tableScrollPane.setBorder(BorderFactory.createTitledBorder("Health Data"));
 
         graphPanel = new JPanel() {
             @Override
@@ -51,6 +58,14 @@ public class EnergyHealthTracker extends JPanel {
         graphPanel.setPreferredSize(new Dimension(800, 300));
         graphPanel.setBorder(BorderFactory.createTitledBorder("Sleep Hours Trend"));
 
+        JPanel rollingPanel = new JPanel(new GridLayout(1, ROLLING_DAYS.length, 10, 0));
+        rollingPanel.setBorder(BorderFactory.createTitledBorder("Rolling Averages"));
+        for (int i = 0; i < rollingLabels.length; i++) {
+            rollingLabels[i] = new JLabel();
+            rollingLabels[i].setFont(new Font("Arial", Font.PLAIN, 12));
+            rollingPanel.add(rollingLabels[i]);
+        }
+
         tipsArea = new JTextArea(5, 20);
         tipsArea.setEditable(false);
         tipsArea.setWrapStyleWord(true);
@@ -59,147 +74,175 @@ public class EnergyHealthTracker extends JPanel {
         JScrollPane tipsScrollPane = new JScrollPane(tipsArea);
         tipsScrollPane.setBorder(BorderFactory.createTitledBorder("Health Insights"));
 
-        JButton submitButton = new JButton("Analyze Data");
-        submitButton.setFont(new Font("Arial", Font.BOLD, 14));
-        submitButton.addActionListener(e -> updateGraphAndProvideTips());
+        windowBox = new JComboBox<>(WINDOWS);
+        windowBox.addActionListener(e -> updateWindow());
+
+        JButton previousButton = new JButton("<");
+        previousButton.addActionListener(e -> shiftWindow(-1));
+        JButton todayButton = new JButton("Today");
+        todayButton.addActionListener(e -> {
+            windowEnd = LocalDate.now();
+            updateWindow();
+        });
+        JButton nextButton = new JButton(">");
+        nextButton.addActionListener(e -> shiftWindow(1));
 
         JButton saveButton = new JButton("Save Data");
         saveButton.setFont(new Font("Arial", Font.BOLD, 14));
         saveButton.addActionListener(e -> saveDataToCSV());
 
-        JButton newWeekButton = new JButton("New Week");
-        newWeekButton.setFont(new Font("Arial", Font.BOLD, 14));
-        newWeekButton.addActionListener(e -> clearDataForNewWeek());
-
         JPanel buttonPanel = new JPanel();
-        buttonPanel.add(submitButton);
+        buttonPanel.add(windowBox);
+        buttonPanel.add(previousButton);
+        buttonPanel.add(todayButton);
+        buttonPanel.add(nextButton);
         buttonPanel.add(saveButton);
-        buttonPanel.add(newWeekButton);
 
         JPanel topPanel = new JPanel(new BorderLayout());
         topPanel.add(tableScrollPane, BorderLayout.CENTER);
         topPanel.add(buttonPanel, BorderLayout.SOUTH);
 
+        JPanel centerPanel = new JPanel(new BorderLayout());
+        centerPanel.add(rollingPanel, BorderLayout.NORTH);
+        centerPanel.add(graphPanel, BorderLayout.CENTER);
+
         add(topPanel, BorderLayout.NORTH);
-        add(graphPanel, BorderLayout.CENTER);
+        add(centerPanel, BorderLayout.CENTER);
         add(tipsScrollPane, BorderLayout.SOUTH);
+
+        updateWindow();
     }
 
-    private void updateGraphAndProvideTips() {
-        String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
-        StringBuilder tipsBuilder = new StringBuilder("Healthy Tips:\n");
-        boolean validInput = true;
+    private void shiftWindow(int direction) {
+        int days = WINDOW_DAYS[windowBox.getSelectedIndex()];
+        if (days == 0) return;
+        windowEnd = windowEnd.plusDays((long) direction * days);
+        updateWindow();
+    }
 
-        for (int i = 0; i < days.length; i++) {
-            try {
-                Object sleepValue = inputTable.getValueAt(i, 1);
-                Object energyValue = inputTable.getValueAt(i, 2);
-
-                if (sleepValue == null || energyValue == null) {
-                    throw new NumberFormatException("Empty fields");
-                }
-
-                double sleepHours = Double.parseDouble(sleepValue.toString());
-                int energyLevel = Integer.parseInt(energyValue.toString());
-
-                if (sleepHours < 7) {
-                    tipsBuilder.append(days[i]).append(": Try to get more sleep. Aim for 7-9 hours.\n");
-                }
-                if (energyLevel < 5) {
-                    tipsBuilder.append(days[i]).append(": Stay hydrated and include more fruits and vegetables in your diet.\n");
-                }
-            } catch (NumberFormatException ex) {
-                validInput = false;
-                JOptionPane.showMessageDialog(this, "Please enter valid numbers for all fields.", "Input Error", JOptionPane.ERROR_MESSAGE);
-                break;
-            }
+    private void updateWindow() {
+        if (inputTable.isEditing()) {
+            inputTable.getCellEditor().stopCellEditing();
+        }
+        int index = windowBox.getSelectedIndex();
+        LocalDate from;
+        LocalDate to;
+        if (index == 0) {
+            from = windowEnd.with(DayOfWeek.MONDAY);
+            to = from.plusDays(6);
+        } else if (WINDOW_DAYS[index] > 0) {
+            to = windowEnd;
+            from = to.minusDays(WINDOW_DAYS[index] - 1);
+        } else {
+            to = series.isEmpty() || series.lastDate().isBefore(windowEnd) ? windowEnd : series.lastDate();
+            from = series.isEmpty() || series.firstDate().isAfter(to) ? to : series.firstDate();
         }
+        tableModel.setWindow(from, to);
+        seriesChanged();
+    }
 
-        if (validInput) {
-            tipsArea.setText(tipsBuilder.toString());
-            graphPanel.repaint();
+    private void seriesChanged() {
+        sleepSeries = series.sleepBetween(tableModel.getFrom(), tableModel.getTo());
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < ROLLING_DAYS.length; i++) {
+            HealthSeries.Stats stats = series.trailing(today, ROLLING_DAYS[i]);
+            rollingLabels[i].setText("<html><b>Last " + ROLLING_DAYS[i] + " days</b><br>"
+                    + "Sleep: " + describe(stats.sleepMean, stats.sleepVariance, " h") + "<br>"
+                    + "Energy: " + describe(stats.energyMean, stats.energyVariance, "") + "<br>"
+                    + "Sleep/energy r: " + (Double.isNaN(stats.correlation) ? "-" : String.format("%.2f", stats.correlation))
+                    + "</html>");
         }
+        tipsArea.setText(insights.tips(tableModel.getFrom(), tableModel.getTo()));
+        tipsArea.setCaretPosition(0);
+        graphDirty = true;
+        graphPanel.repaint();
+    }
+
+    private static String describe(double mean, double variance, String unit) {
+        if (Double.isNaN(mean)) return "-";
+        if (Double.isNaN(variance)) return String.format("%.1f%s", mean, unit);
+        return String.format("%.1f%s (sd %.1f)", mean, unit, Math.sqrt(variance));
     }
 
     private void saveDataToCSV() {
-        try (PrintWriter writer = new PrintWriter(new FileWriter("health_data.csv"))) {
-            for (int i = 0; i < inputTable.getRowCount(); i++) {
-                for (int j = 0; j < inputTable.getColumnCount(); j++) {
-                    Object value = inputTable.getValueAt(i, j);
-                    writer.print(value != null ? value.toString() : "");
-                    if (j < inputTable.getColumnCount() - 1) {
-                        writer.print(",");
-                    }
-                }
-                writer.println();
-            }
-            JOptionPane.showMessageDialog(this, "Data saved successfully to health_data.csv!", "Save Success", JOptionPane.INFORMATION_MESSAGE);
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this, "Error saving data to CSV: " + e.getMessage(), "Save Error", JOptionPane.ERROR_MESSAGE);
+        if (inputTable.isEditing()) {
+            inputTable.getCellEditor().stopCellEditing();
         }
+        PersistenceExecutor.get().save(HealthSeries.FILE, series.toLines(),
+                e -> JOptionPane.showMessageDialog(this, "Error saving data to CSV: " + e.getMessage(), "Save Error", JOptionPane.ERROR_MESSAGE),
+                () -> JOptionPane.showMessageDialog(this, "Data saved successfully to health_data.csv!", "Save Success", JOptionPane.INFORMATION_MESSAGE));
     }
 
-    private void loadDataFromCSV() {
-        try (BufferedReader reader = new BufferedReader(new FileReader("health_data.csv"))) {
-            String line;
-            DefaultTableModel model = (DefaultTableModel) inputTable.getModel();
-            int row = 0;
-
-            while ((line = reader.readLine()) != null && row < inputTable.getRowCount()) {
-                String[] values = line.split(",");
-                for (int col = 0; col < values.length && col < inputTable.getColumnCount(); col++) {
-                    model.setValueAt(values[col], row, col);
-                }
-                row++;
-            }
-        } catch (FileNotFoundException e) {
+    private HealthSeries loadDataFromCSV() {
+        HealthSeries loaded = HealthSeries.fromRows(DataStore.get().rows(HealthSeries.FILE));
+        if (loaded.isEmpty()) {
             System.out.println("No previous data found. Starting with default values.");
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this, "Error loading data from CSV: " + e.getMessage(), "Load Error", JOptionPane.ERROR_MESSAGE);
         }
+        return loaded;
     }
 
-    private void clearDataForNewWeek() {
-        DefaultTableModel model = (DefaultTableModel) inputTable.getModel();
-        for (int row = 0; row < model.getRowCount(); row++) {
-            model.setValueAt(null, row, 1);
-            model.setValueAt(null, row, 2);
+    // Refuses to commit text that is not a number, the way JTable's own number editor does.
+    private static class NumberEditor extends DefaultCellEditor {
+        NumberEditor() {
+            super(new JTextField());
+        }
+
+        @Override
+        public boolean stopCellEditing() {
+            String text = ((JTextField) getComponent()).getText().trim();
+            if (!text.isEmpty() && Double.isNaN(HealthSeries.parse(text))) {
+                ((JComponent) getComponent()).setBorder(new LineBorder(Color.RED));
+                return false;
+            }
+            return super.stopCellEditing();
+        }
+
+        @Override
+        public Component getTableCellEditorComponent(JTable table, Object value, boolean isSelected, int row, int column) {
+            ((JComponent) getComponent()).setBorder(new LineBorder(Color.BLACK));
+            return super.getTableCellEditorComponent(table, value, isSelected, row, column);
         }
-        tipsArea.setText("");
-        graphPanel.repaint();
     }
 
     private void drawGraph(Graphics g) {
-        String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
         int width = graphPanel.getWidth();
         int height = graphPanel.getHeight();
+        if (width <= 0 || height <= 0) return;
+
+        if (graphImage == null || graphImage.getWidth() != width || graphImage.getHeight() != height) {
+            graphImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            graphDirty = true;
+        }
+        if (graphDirty) {
+            Graphics2D g2 = graphImage.createGraphics();
+            try {
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, width, height);
+                g2.setComposite(AlphaComposite.SrcOver);
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setFont(graphPanel.getFont());
+                renderGraph(g2, width, height);
+            } finally {
+                g2.dispose();
+            }
+            graphDirty = false;
+        }
+        g.drawImage(graphImage, 0, 0, null);
+    }
+
+    private void renderGraph(Graphics2D g, int width, int height) {
         int padding = 40;
         int graphWidth = width - 2 * padding;
         int graphHeight = height - 2 * padding;
-        int dayCount = days.length;
-
-        double[] sleepHours = new double[dayCount];
-        boolean validInput = true;
-
-        try {
-            for (int i = 0; i < dayCount; i++) {
-                Object sleepValue = inputTable.getValueAt(i, 1);
-                if (sleepValue != null) {
-                    sleepHours[i] = Double.parseDouble(sleepValue.toString());
-                } else {
-                    validInput = false;
-                }
-            }
-        } catch (NumberFormatException ex) {
-            validInput = false;
-        }
+        int dayCount = sleepSeries.length;
 
-        if (!validInput) {
-            g.drawString("Please fill all sleep hours to generate the graph.", padding, height / 2);
+        int[] points = SeriesDownsampler.lttb(sleepSeries, Math.max(3, graphWidth / 4));
+        if (points.length == 0) {
+            g.setColor(Color.BLACK);
+            g.drawString("Please fill in sleep hours to generate the graph.", padding, height / 2);
             return;
         }
 
-    
         g.setColor(Color.BLACK);
         g.drawLine(padding, height - padding, padding, padding);
         g.drawLine(padding, height - padding, width - padding, height - padding);
@@ -207,21 +250,21 @@ public class EnergyHealthTracker extends JPanel {
         g.drawString("Hours", padding - 30, padding - 10);
         g.drawString("Days", width / 2, height - 10);
 
-        
-        int maxHours = 12; 
-        int[] xPoints = new int[dayCount];
-        int[] yPoints = new int[dayCount];
+        int maxHours = 12;
+        int[] xPoints = new int[points.length];
+        int[] yPoints = new int[points.length];
+        boolean drawDots = points.length <= graphWidth / 10;
 
         g.setColor(Color.BLUE);
-        for (int i = 0; i < dayCount; i++) {
-            xPoints[i] = padding + i * graphWidth / (dayCount - 1);
-            yPoints[i] = height - padding - (int) (sleepHours[i] * graphHeight / maxHours);
-            g.fillOval(xPoints[i] - 3, yPoints[i] - 3, 6, 6);
-        }
-
-        for (int i = 0; i < dayCount - 1; i++) {
-            g.drawLine(xPoints[i], yPoints[i], xPoints[i + 1], yPoints[i + 1]);
+        for (int i = 0; i < points.length; i++) {
+            double hours = Math.max(0, Math.min(maxHours, sleepSeries[points[i]]));
+            xPoints[i] = padding + (dayCount > 1 ? points[i] * graphWidth / (dayCount - 1) : 0);
+            yPoints[i] = height - padding - (int) (hours * graphHeight / maxHours);
+            if (drawDots) {
+                g.fillOval(xPoints[i] - 3, yPoints[i] - 3, 6, 6);
+            }
         }
+        g.drawPolyline(xPoints, yPoints, points.length);
     }
 
     public static void main(String[] args) {
@@ -234,4 +277,4 @@ public class EnergyHealthTracker extends JPanel {
             frame.setVisible(true);
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+import javax.swing.*;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+final class EventBus {
+    private static final EventBus INSTANCE = new EventBus();
+
+    private final Map<Class<?>, List<Consumer<Object>>> handlers = new ConcurrentHashMap<>();
+
+    private EventBus() {
+    }
+
+    static EventBus get() {
+        return INSTANCE;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> Consumer<Object> subscribe(Class<E> type, Consumer<? super E> handler) {
+        Consumer<Object> wrapper = event -> handler.accept((E) event);
+        handlers.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>()).add(wrapper);
+        return wrapper;
+    }
+
+    void unsubscribe(Class<?> type, Consumer<Object> subscription) {
+        List<Consumer<Object>> typeHandlers = handlers.get(type);
+        if (typeHandlers != null) {
+            typeHandlers.remove(subscription);
+        }
+    }
+
+    // Handlers registered for a superclass of the event (e.g. AppEvents.SubjectEvent) also receive it.
+    void publish(Object event) {
+        Runnable deliver = () -> {
+            for (Class<?> type = event.getClass(); type != null; type = type.getSuperclass()) {
+                List<Consumer<Object>> typeHandlers = handlers.get(type);
+                if (typeHandlers == null) continue;
+                for (Consumer<Object> handler : typeHandlers) {
+                    handler.accept(event);
+                }
+            }
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            deliver.run();
+        } else {
+            SwingUtilities.invokeLater(deliver);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+final class Exam {
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final String subject;
+    private final long epochDay;
+    private final int priority;
+
+    Exam(String subject, LocalDate date, int priority) {
+        this.subject = subject;
+        this.epochDay = date.toEpochDay();
+        this.priority = priority;
+    }
+
+    String getSubject() { return subject; }
+    long getEpochDay() { return epochDay; }
+    LocalDate getDate() { return LocalDate.ofEpochDay(epochDay); }
+    int getPriority() { return priority; }
+
+    static Exam fromRow(String[] row) {
+        return new Exam(row[0], LocalDate.parse(row[1].trim(), DATE_FORMAT), Integer.parseInt(row[2].trim()));
+    }
+
+    String[] toRow() {
+        return new String[]{subject, DATE_FORMAT.format(getDate()), String.valueOf(priority)};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Exam)) return false;
+        Exam other = (Exam) o;
+        return epochDay == other.epochDay && priority == other.priority && subject.equals(other.subject);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subject, epochDay, priority);
+    }
+
+    @Override
+    public String toString() {
+        return subject + " on " + DATE_FORMAT.format(getDate()) + " (priority " + priority + ")";
+    }
+}
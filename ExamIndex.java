@@ -0,0 +1,130 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+final class ExamIndex {
+    static final Comparator<Exam> ORDER = Comparator.comparingLong(Exam::getEpochDay)
+            .thenComparing(Comparator.comparingInt(Exam::getPriority).reversed())
+            .thenComparing(Exam::getSubject);
+
+    // Rows in ORDER for positional access, plus day buckets for range and conflict lookups.
+    private final List<Exam> ordered = new ArrayList<>();
+    private final NavigableMap<Long, List<Exam>> byDay = new TreeMap<>();
+
+    synchronized int add(Exam exam) {
+        int index = Collections.binarySearch(ordered, exam, ORDER);
+        if (index < 0) {
+            index = -index - 1;
+        } else {
+            while (index < ordered.size() && ORDER.compare(ordered.get(index), exam) == 0) index++;
+        }
+        ordered.add(index, exam);
+        byDay.computeIfAbsent(exam.getEpochDay(), day -> new ArrayList<>(2)).add(exam);
+        return index;
+    }
+
+    synchronized void setAll(Collection<Exam> exams) {
+        ordered.clear();
+        byDay.clear();
+        ordered.addAll(exams);
+        ordered.sort(ORDER);
+        for (Exam exam : ordered) {
+            byDay.computeIfAbsent(exam.getEpochDay(), day -> new ArrayList<>(2)).add(exam);
+        }
+    }
+
+    synchronized Exam remove(int index) {
+        Exam exam = ordered.remove(index);
+        List<Exam> bucket = byDay.get(exam.getEpochDay());
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == exam) {
+                bucket.remove(i);
+                break;
+            }
+        }
+        if (bucket.isEmpty()) byDay.remove(exam.getEpochDay());
+        return exam;
+    }
+
+    synchronized Exam get(int index) {
+        return ordered.get(index);
+    }
+
+    synchronized int size() {
+        return ordered.size();
+    }
+
+    synchronized List<Exam> all() {
+        return new ArrayList<>(ordered);
+    }
+
+    synchronized Exam next(LocalDate from) {
+        Map.Entry<Long, List<Exam>> entry = byDay.ceilingEntry(from.toEpochDay());
+        if (entry == null) return null;
+        Exam best = null;
+        for (Exam exam : entry.getValue()) {
+            if (best == null || ORDER.compare(exam, best) < 0) best = exam;
+        }
+        return best;
+    }
+
+    synchronized List<Exam> between(LocalDate from, LocalDate to) {
+        List<Exam> result = new ArrayList<>();
+        if (to.isBefore(from)) return result;
+        for (List<Exam> bucket : byDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true).values()) {
+            result.addAll(bucket);
+        }
+        result.sort(ORDER);
+        return result;
+    }
+
+    synchronized List<Exam> topByPriority(LocalDate from, int k) {
+        if (k <= 0) return new ArrayList<>();
+        PriorityQueue<Exam> top = new PriorityQueue<>(k, Comparator.comparingInt(Exam::getPriority)
+                .thenComparing(Comparator.comparingLong(Exam::getEpochDay).reversed()));
+        for (List<Exam> bucket : byDay.tailMap(from.toEpochDay(), true).values()) {
+            for (Exam exam : bucket) {
+                if (top.size() < k) {
+                    top.add(exam);
+                } else if (top.comparator().compare(exam, top.peek()) > 0) {
+                    top.poll();
+                    top.add(exam);
+                }
+            }
+        }
+        List<Exam> result = new ArrayList<>(top);
+        result.sort(top.comparator().reversed());
+        return result;
+    }
+
+    synchronized List<Exam> sameDay(LocalDate date) {
+        List<Exam> bucket = byDay.get(date.toEpochDay());
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+
+    synchronized int countOn(long epochDay) {
+        List<Exam> bucket = byDay.get(epochDay);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    synchronized int firstIndexOn(long epochDay) {
+        int low = 0;
+        int high = ordered.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ordered.get(mid).getEpochDay() < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
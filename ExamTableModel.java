@@ -0,0 +1,94 @@
+import javax.swing.table.AbstractTableModel;
+import java.time.LocalDate;
+import java.util.Collection;
+
+class ExamTableModel extends AbstractTableModel {
+    static final int SUBJECT_COLUMN = 0;
+    static final int DATE_COLUMN = 1;
+    static final int PRIORITY_COLUMN = 2;
+
+    private static final String[] COLUMN_NAMES = {"Subject", "Date", "Priority"};
+
+    private final ExamIndex index;
+
+    ExamTableModel(ExamIndex index) {
+        this.index = index;
+    }
+
+    ExamIndex getIndex() {
+        return index;
+    }
+
+    Exam examAt(int row) {
+        return index.get(row);
+    }
+
+    boolean hasConflict(int row) {
+        return index.countOn(index.get(row).getEpochDay()) > 1;
+    }
+
+    void addExam(Exam exam) {
+        int row = index.add(exam);
+        fireTableRowsInserted(row, row);
+        fireDayUpdated(exam.getEpochDay());
+    }
+
+    Exam removeExam(int row) {
+        Exam exam = index.remove(row);
+        fireTableRowsDeleted(row, row);
+        fireDayUpdated(exam.getEpochDay());
+        return exam;
+    }
+
+    void setExams(Collection<Exam> exams) {
+        index.setAll(exams);
+        fireTableDataChanged();
+    }
+
+    private void fireDayUpdated(long epochDay) {
+        int count = index.countOn(epochDay);
+        if (count == 0) return;
+        int first = index.firstIndexOn(epochDay);
+        fireTableRowsUpdated(first, first + count - 1);
+    }
+
+    @Override
+    public int getRowCount() {
+        return index.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        switch (column) {
+            case DATE_COLUMN:
+                return LocalDate.class;
+            case PRIORITY_COLUMN:
+                return Integer.class;
+            default:
+                return String.class;
+        }
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Exam exam = index.get(row);
+        switch (column) {
+            case SUBJECT_COLUMN:
+                return exam.getSubject();
+            case DATE_COLUMN:
+                return exam.getDate();
+            default:
+                return exam.getPriority();
+        }
+    }
+}
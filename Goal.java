@@ -1,5 +1,7 @@
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 class Goal {
     private String name;
@@ -8,6 +10,7 @@ class Goal {
     private LocalDate deadline;
     private String status; 
     private ArrayList<Task> tasks;
+    private int completedTasks;
 
     public Goal(String name, int target, LocalDate deadline) {
         this.name = name;
@@ -20,18 +23,31 @@ class Goal {
 
     public void addTask(Task task) {
         tasks.add(task);
+        task.attachTo(this);
+        if (task.isComplete()) completedTasks++;
         updateProgress(); 
     }
     public void removeTask(Task task) {
-        tasks.remove(task);
+        if (tasks.remove(task)) {
+            task.attachTo(null);
+            if (task.isComplete()) completedTasks--;
+        }
         updateProgress(); 
     }
-    
+
+    void taskCompletionChanged(boolean complete) {
+        completedTasks += complete ? 1 : -1;
+        updateProgress();
+    }
 
     public void updateProgress() {
-        int completedTasks = (int) tasks.stream().filter(Task::isComplete).count();
-        currentProgress = (int) ((double) completedTasks / tasks.size() * 100);
+        currentProgress = tasks.isEmpty() ? 0 : completedTasks * 100 / tasks.size();
+        refreshStatus();
+    }
 
+    // Re-derives the status from the current progress and today's date; true if it changed.
+    boolean refreshStatus() {
+        String previous = status;
         if (currentProgress >= target) {
             status = "Completed";
         } else if (LocalDate.now().isAfter(deadline)) {
@@ -39,6 +55,7 @@ class Goal {
         } else {
             status = "In Progress";
         }
+        return !status.equals(previous);
     }
 
     public String getName() { return name; }
@@ -46,7 +63,8 @@ class Goal {
     public int getCurrentProgress() { return currentProgress; }
     public String getStatus() { return status; }
     public LocalDate getDeadline() { return deadline; }
-    public ArrayList<Task> getTasks() { return tasks; }
+    public int getCompletedTaskCount() { return completedTasks; }
+    public List<Task> getTasks() { return Collections.unmodifiableList(tasks); }
 
     public void setCurrentProgress (int currentProgress) {
         this.currentProgress = currentProgress;
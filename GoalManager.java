@@ -1,33 +1,156 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 
 class GoalManager {
-    private ArrayList<Goal> goals;
+    private LinkedHashMap<String, Goal> goals;
 
     public GoalManager() {
-        this.goals = new ArrayList<>();
+        this.goals = new LinkedHashMap<>();
     }
 
-    public void addGoal(Goal goal) {
-        goals.add(goal);
+    static String normalize(String goalName) {
+        return goalName.trim().toLowerCase(Locale.ROOT);
     }
+
+    public boolean addGoal(Goal goal) {
+        return goals.putIfAbsent(normalize(goal.getName()), goal) == null;
+    }
+
+    public int addGoals(Collection<Goal> newGoals) {
+        int added = 0;
+        for (Goal goal : newGoals) {
+            if (addGoal(goal)) added++;
+        }
+        return added;
+    }
+
     public boolean removeGoal(String goalName) {
-        return goals.removeIf(goal -> goal.getName().equalsIgnoreCase(goalName));
+        return goals.remove(normalize(goalName)) != null;
+    }
+
+    public int removeGoals(Collection<String> goalNames) {
+        int removed = 0;
+        for (String goalName : goalNames) {
+            if (removeGoal(goalName)) removed++;
+        }
+        return removed;
     }
     
     public void updateGoalProgress() {
-        for (Goal goal : goals) {
+        for (Goal goal : goals.values()) {
             goal.updateProgress();
         }
     }
 
     public Goal findGoal(String goalName) {
-        for (Goal goal : goals) { 
-            if (goal.getName().equals(goalName)) {
-                return goal; 
+        return goals.get(normalize(goalName));
+    }
+
+    public Collection<Goal> getGoals() { return Collections.unmodifiableCollection(goals.values()); }
+
+    void loadGoals(Path file) throws IOException {
+        addGoals(CsvBulkLoader.load(file, cursor -> goalFromRow(cursor.toArray())));
+    }
+
+    void loadTasks(Path file) throws IOException {
+        attachTasks(CsvBulkLoader.load(file, cursor -> taskFromRow(cursor.toArray())));
+    }
+
+    // Same as loadGoals, for rows already read (e.g. from DataStore).
+    void addGoalRows(List<String[]> rows) {
+        for (String[] row : rows) {
+            Goal goal = goalFromRow(row);
+            if (goal != null) addGoal(goal);
+        }
+    }
+
+    void addTaskRows(List<String[]> rows) {
+        List<TaskRow> taskRows = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            TaskRow taskRow = taskFromRow(row);
+            if (taskRow != null) taskRows.add(taskRow);
+        }
+        attachTasks(taskRows);
+    }
+
+    // Short rows are left out; rows that do not parse are logged and left out.
+    private static Goal goalFromRow(String[] row) {
+        if (row.length < 5) return null;
+        try {
+            return goal(row[0], Integer.parseInt(row[1].trim()), LocalDate.parse(row[2].trim()),
+                    Integer.parseInt(row[3].trim()), row[4]);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            System.err.println("Skipping goal row: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static TaskRow taskFromRow(String[] row) {
+        if (row.length < 3) return null;
+        return new TaskRow(row[0], task(row[1], "true".equalsIgnoreCase(row[2].trim())));
+    }
+
+    private static Goal goal(String name, int targetProgress, LocalDate deadline, int currentProgress, String status) {
+        Goal goal = new Goal(name, targetProgress, deadline);
+        goal.setCurrentProgress(currentProgress);
+        goal.setStatus(status);
+        return goal;
+    }
+
+    private static Task task(String description, boolean complete) {
+        Task task = new Task(description);
+        if (complete) task.markComplete(true);
+        return task;
+    }
+
+    private void attachTasks(List<TaskRow> rows) {
+        String lastGoalName = null;
+        Goal goal = null;
+        for (TaskRow row : rows) {
+            if (!row.goalName.equals(lastGoalName)) {
+                goal = findGoal(row.goalName);
+                lastGoalName = row.goalName;
+            }
+            if (goal != null) {
+                goal.addTask(row.task);
             }
         }
-        return null; 
     }
 
-    public ArrayList<Goal> getGoals() { return goals; }
+    List<String> goalLines() {
+        List<String> lines = new ArrayList<>(goals.size());
+        for (Goal goal : goals.values()) {
+            lines.add(CsvCodec.formatRow(goal.getName(), String.valueOf(goal.getTargetProgress()),
+                    goal.getDeadline().toString(), String.valueOf(goal.getCurrentProgress()), goal.getStatus()));
+        }
+        return lines;
+    }
+
+    List<String> taskLines() {
+        List<String> lines = new ArrayList<>();
+        for (Goal goal : goals.values()) {
+            for (Task task : goal.getTasks()) {
+                lines.add(CsvCodec.formatRow(goal.getName(), task.getDescription(), String.valueOf(task.isComplete())));
+            }
+        }
+        return lines;
+    }
+
+    private static class TaskRow {
+        final String goalName;
+        final Task task;
+
+        TaskRow(String goalName, Task task) {
+            this.goalName = goalName;
+            this.task = task;
+        }
+    }
 }
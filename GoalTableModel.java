@@ -0,0 +1,176 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class GoalTableModel extends AbstractTableModel {
+    static final int NAME_COLUMN = 0;
+    static final int DONE_COLUMN = 1;
+    static final int PROGRESS_COLUMN = 2;
+    static final int STATUS_COLUMN = 3;
+
+    private static final String[] COLUMN_NAMES = {"Goal / Task", "Done", "Progress", "Status"};
+
+    private final GoalManager goalManager;
+    private final List<Goal> rowGoals = new ArrayList<>();
+    private final List<Task> rowTasks = new ArrayList<>();
+    private final Map<Goal, Integer> goalRows = new HashMap<>();
+    private Runnable onTaskToggled = () -> { };
+
+    GoalTableModel(GoalManager goalManager) {
+        this.goalManager = goalManager;
+        rebuildRows();
+    }
+
+    void setOnTaskToggled(Runnable onTaskToggled) {
+        this.onTaskToggled = onTaskToggled;
+    }
+
+    Goal goalAt(int row) {
+        return rowGoals.get(row);
+    }
+
+    Task taskAt(int row) {
+        return rowTasks.get(row);
+    }
+
+    boolean addGoal(Goal goal) {
+        if (!goalManager.addGoal(goal)) return false;
+        rebuildRows();
+        int row = goalRows.get(goal);
+        fireTableRowsInserted(row, row);
+        EventBus.get().publish(new AppEvents.GoalAdded(goal));
+        return true;
+    }
+
+    void removeGoal(Goal goal) {
+        Integer row = goalRows.get(goal);
+        if (row == null) return;
+        int lastRow = row + goal.getTasks().size();
+        goalManager.removeGoal(goal.getName());
+        rebuildRows();
+        fireTableRowsDeleted(row, lastRow);
+        EventBus.get().publish(new AppEvents.GoalRemoved(goal));
+    }
+
+    void addTask(Goal goal, Task task) {
+        goal.addTask(task);
+        rebuildRows();
+        int goalRow = goalRows.get(goal);
+        int taskRow = goalRow + goal.getTasks().size();
+        fireTableRowsInserted(taskRow, taskRow);
+        fireTableRowsUpdated(goalRow, goalRow);
+        EventBus.get().publish(new AppEvents.TaskAdded(goal, task));
+    }
+
+    void removeTask(int row) {
+        Task task = rowTasks.get(row);
+        if (task == null) return;
+        Goal goal = rowGoals.get(row);
+        goal.removeTask(task);
+        rebuildRows();
+        fireTableRowsDeleted(row, row);
+        int goalRow = goalRows.get(goal);
+        fireTableRowsUpdated(goalRow, goalRow);
+        EventBus.get().publish(new AppEvents.TaskRemoved(goal, task));
+    }
+
+    void goalChanged(Goal goal) {
+        Integer row = goalRows.get(goal);
+        if (row != null) fireTableRowsUpdated(row, row);
+    }
+
+    void reload() {
+        rebuildRows();
+        fireTableDataChanged();
+    }
+
+    private void rebuildRows() {
+        rowGoals.clear();
+        rowTasks.clear();
+        goalRows.clear();
+        for (Goal goal : goalManager.getGoals()) {
+            goalRows.put(goal, rowGoals.size());
+            rowGoals.add(goal);
+            rowTasks.add(null);
+            for (Task task : goal.getTasks()) {
+                rowGoals.add(goal);
+                rowTasks.add(task);
+            }
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowGoals.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        switch (column) {
+            case DONE_COLUMN:
+                return Boolean.class;
+            case PROGRESS_COLUMN:
+                return Integer.class;
+            default:
+                return String.class;
+        }
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return column == DONE_COLUMN && rowTasks.get(row) != null;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Goal goal = rowGoals.get(row);
+        Task task = rowTasks.get(row);
+        if (task == null) {
+            switch (column) {
+                case NAME_COLUMN:
+                    return goal.getName();
+                case PROGRESS_COLUMN:
+                    return goal.getCurrentProgress();
+                case STATUS_COLUMN:
+                    return goal.getStatus();
+                default:
+                    return null;
+            }
+        }
+        switch (column) {
+            case NAME_COLUMN:
+                return task.getDescription();
+            case DONE_COLUMN:
+                return task.isComplete();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        Task task = rowTasks.get(row);
+        if (column != DONE_COLUMN || task == null) return;
+        boolean complete = Boolean.TRUE.equals(value);
+        if (task.isComplete() == complete) return;
+
+        task.markComplete(complete);
+        int goalRow = goalRows.get(rowGoals.get(row));
+        fireTableRowsUpdated(row, row);
+        fireTableRowsUpdated(goalRow, goalRow);
+        onTaskToggled.run();
+        EventBus.get().publish(new AppEvents.TaskToggled(rowGoals.get(row), task));
+    }
+}
@@ -1,12 +1,14 @@
 import javax.swing.*;
+import javax.swing.border.Border;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableCellRenderer;
 import java.awt.*;
-import java.io.*;
 import java.time.LocalDate;
-import java.util.ArrayList;
 
 public class GoalTrackingApp extends JPanel {
     private GoalManager goalManager;
-    private JPanel goalPanelContainer;
+    private GoalTableModel goalTableModel;
+    private JTable goalTable;
 
     private static final String GOALS_FILE = "Goals.csv";
     private static final String TASKS_FILE = "Tasks.csv";
@@ -16,21 +18,56 @@ public class GoalTrackingApp extends JPanel {
         loadGoalsFromCSV();
         loadTasksFromCSV();
         setupUI();
+        EventBus.get().subscribe(AppEvents.GoalStatusChanged.class, this::goalStatusChanged);
+    }
+
+    // DeadlineScheduler has already written Goals.csv from disk; saving our list right after keeps any
+    // goal edits of ours that were still waiting to be written.
+    private void goalStatusChanged(AppEvents.GoalStatusChanged event) {
+        Goal goal = goalManager.findGoal(event.goalName);
+        if (goal != null && goal.refreshStatus()) {
+            goalTableModel.goalChanged(goal);
+        }
+        saveGoalsToCSV();
     }
 
     private void setupUI() {
         setLayout(new BorderLayout());
-        goalPanelContainer = new JPanel();
-        goalPanelContainer.setLayout(new BoxLayout(goalPanelContainer, BoxLayout.Y_AXIS));
-
+        goalTableModel = new GoalTableModel(goalManager);
+        goalTableModel.setOnTaskToggled(this::saveTasksToCSV);
+
+        goalTable = new JTable(goalTableModel);
+        goalTable.setRowHeight(25);
+        goalTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        goalTable.getTableHeader().setReorderingAllowed(false);
+        goalTable.getColumnModel().getColumn(GoalTableModel.NAME_COLUMN).setPreferredWidth(250);
+        goalTable.getColumnModel().getColumn(GoalTableModel.NAME_COLUMN).setCellRenderer(new NameRenderer());
+        goalTable.getColumnModel().getColumn(GoalTableModel.DONE_COLUMN).setCellRenderer(new DoneRenderer());
+        goalTable.getColumnModel().getColumn(GoalTableModel.PROGRESS_COLUMN).setCellRenderer(new ProgressRenderer());
 
         JButton addGoalButton = new JButton("Add New Goal");
         addGoalButton.addActionListener(e -> showAddGoalDialog());
 
-        add(addGoalButton, BorderLayout.NORTH);
-        add(new JScrollPane(goalPanelContainer), BorderLayout.CENTER);
+        JButton addTaskButton = new JButton("Add Task");
+        addTaskButton.addActionListener(e -> {
+            int row = goalTable.getSelectedRow();
+            if (row == -1) {
+                JOptionPane.showMessageDialog(this, "Select a goal first.");
+                return;
+            }
+            showAddTaskDialog(goalTableModel.goalAt(row));
+        });
+
+        JButton deleteButton = new JButton("Delete");
+        deleteButton.addActionListener(e -> deleteSelected());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        buttonPanel.add(addGoalButton);
+        buttonPanel.add(addTaskButton);
+        buttonPanel.add(deleteButton);
 
-        refreshGoalsDisplay();
+        add(buttonPanel, BorderLayout.NORTH);
+        add(new JScrollPane(goalTable), BorderLayout.CENTER);
     }
 
     private void showAddGoalDialog() {
@@ -54,180 +91,130 @@ public class GoalTrackingApp extends JPanel {
                 LocalDate deadline = LocalDate.parse(deadlineField.getText());
 
                 Goal newGoal = new Goal(goalName, target, deadline);
-                goalManager.addGoal(newGoal);
+                if (!goalTableModel.addGoal(newGoal)) {
+                    JOptionPane.showMessageDialog(this, "A goal named '" + goalName + "' already exists.");
+                    return;
+                }
                 saveGoalsToCSV();
-                refreshGoalsDisplay();
             } catch (Exception e) {
                 JOptionPane.showMessageDialog(this, "Invalid input. Please check your entries.");
             }
         }
     }
 
-    private void refreshGoalsDisplay() {
-        goalPanelContainer.removeAll();
-        for (Goal goal : goalManager.getGoals()) {
-            JPanel goalPanel = createGoalPanel(goal);
-            goalPanelContainer.add(goalPanel);
+    private void showAddTaskDialog(Goal goal) {
+        String taskDescription = JOptionPane.showInputDialog(this, "Enter Task Description:");
+        if (taskDescription != null && !taskDescription.isEmpty()) {
+            goalTableModel.addTask(goal, new Task(taskDescription));
+            saveTasksToCSV();
         }
-        goalPanelContainer.revalidate();
-        goalPanelContainer.repaint();
     }
 
-    private JPanel createGoalPanel(Goal goal) {
-        JPanel goalPanel = new JPanel(new BorderLayout());
-        goalPanel.setBorder(BorderFactory.createTitledBorder(goal.getName()));
-
-        JProgressBar progressBar = new JProgressBar(0, 100);
-        progressBar.setValue(goal.getCurrentProgress());
-        progressBar.setStringPainted(true);
-
-        JPanel taskPanel = new JPanel();
-        taskPanel.setLayout(new BoxLayout(taskPanel, BoxLayout.Y_AXIS));
-        for (Task task : goal.getTasks()) {
-            JPanel taskItemPanel = createTaskPanel(goal, task, progressBar);
-            taskPanel.add(taskItemPanel);
+    private void deleteSelected() {
+        int row = goalTable.getSelectedRow();
+        if (row == -1) return;
+        if (goalTable.isEditing()) {
+            goalTable.getCellEditor().stopCellEditing();
         }
 
-        JButton addTaskButton = new JButton("Add Task");
-        addTaskButton.addActionListener(e -> showAddTaskDialog(goal, progressBar));
-
-JButton deleteGoalButton = new JButton("Delete Goal");
-deleteGoalButton.addActionListener(e -> {
-    int confirm = JOptionPane.showConfirmDialog(this, 
-        "Are you sure you want to delete the goal '" + goal.getName() + "'?", 
-        "Delete Goal", 
-        JOptionPane.YES_NO_OPTION);
-    if (confirm == JOptionPane.YES_OPTION) {
-        goalManager.removeGoal(goal.getName());
-        saveGoalsToCSV(); 
-        refreshGoalsDisplay(); 
+        Goal goal = goalTableModel.goalAt(row);
+        Task task = goalTableModel.taskAt(row);
+        if (task == null) {
+            int confirm = JOptionPane.showConfirmDialog(this, 
+                "Are you sure you want to delete the goal '" + goal.getName() + "'?", 
+                "Delete Goal", 
+                JOptionPane.YES_NO_OPTION);
+            if (confirm == JOptionPane.YES_OPTION) {
+                goalTableModel.removeGoal(goal);
+                saveGoalsToCSV(); 
+            }
+        } else {
+            int confirm = JOptionPane.showConfirmDialog(this, 
+                "Are you sure you want to delete the task '" + task.getDescription() + "'?", 
+                "Delete Task", 
+                JOptionPane.YES_NO_OPTION);
+            if (confirm == JOptionPane.YES_OPTION) {
+                goalTableModel.removeTask(row);
+                saveTasksToCSV(); 
+            }
+        }
     }
-});
 
-goalPanel.add(deleteGoalButton, BorderLayout.WEST);
+    private static class NameRenderer extends DefaultTableCellRenderer {
+        private final Border goalBorder = BorderFactory.createEmptyBorder(0, 4, 0, 0);
+        private final Border taskBorder = BorderFactory.createEmptyBorder(0, 24, 0, 0);
+        private Font goalFont;
+        private Font taskFont;
+
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            if (taskFont != table.getFont()) {
+                taskFont = table.getFont();
+                goalFont = taskFont.deriveFont(Font.BOLD);
+            }
+            boolean isGoal = ((GoalTableModel) table.getModel()).taskAt(table.convertRowIndexToModel(row)) == null;
+            setFont(isGoal ? goalFont : taskFont);
+            setBorder(isGoal ? goalBorder : taskBorder);
+            return this;
+        }
+    }
 
-        JLabel statusLabel = new JLabel("Status: " + goal.getStatus());
-        goalPanel.add(progressBar, BorderLayout.NORTH);
-        goalPanel.add(new JScrollPane(taskPanel), BorderLayout.CENTER);
-        goalPanel.add(statusLabel, BorderLayout.SOUTH);
-        goalPanel.add(addTaskButton, BorderLayout.EAST);
+    private static class DoneRenderer implements TableCellRenderer {
+        private final JCheckBox checkBox = new JCheckBox();
+        private final DefaultTableCellRenderer blank = new DefaultTableCellRenderer();
 
-        return goalPanel;
-    }
+        DoneRenderer() {
+            checkBox.setHorizontalAlignment(SwingConstants.CENTER);
+            checkBox.setBorderPainted(false);
+        }
 
-    private void showAddTaskDialog(Goal goal, JProgressBar progressBar) {
-        String taskDescription = JOptionPane.showInputDialog(this, "Enter Task Description:");
-        if (taskDescription != null && !taskDescription.isEmpty()) {
-            Task newTask = new Task(taskDescription);
-            goal.addTask(newTask);
-            saveTasksToCSV();
-            goal.updateProgress();
-            refreshGoalsDisplay();
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            if (value == null) {
+                return blank.getTableCellRendererComponent(table, "", isSelected, hasFocus, row, column);
+            }
+            checkBox.setSelected((Boolean) value);
+            checkBox.setBackground(isSelected ? table.getSelectionBackground() : table.getBackground());
+            return checkBox;
         }
     }
 
-    private JPanel createTaskPanel(Goal goal, Task task, JProgressBar progressBar) {
-        JPanel taskPanel = new JPanel(new BorderLayout());
+    private static class ProgressRenderer implements TableCellRenderer {
+        private final JProgressBar progressBar = new JProgressBar(0, 100);
+        private final DefaultTableCellRenderer blank = new DefaultTableCellRenderer();
 
-        JCheckBox taskCheckBox = new JCheckBox(task.getDescription(), task.isComplete());
-        taskCheckBox.addActionListener(e -> {
-            task.markComplete(taskCheckBox.isSelected());
-            goal.updateProgress();
-            progressBar.setValue(goal.getCurrentProgress());
-            saveTasksToCSV();
-            refreshGoalsDisplay();
-        });
-
-            JButton deleteTaskButton = new JButton("Delete");
-            deleteTaskButton.setPreferredSize(new Dimension(80, 25)); 
-            deleteTaskButton.addActionListener(e -> {
-                int confirm = JOptionPane.showConfirmDialog(this, 
-                    "Are you sure you want to delete the task '" + task.getDescription() + "'?", 
-                    "Delete Task", 
-                    JOptionPane.YES_NO_OPTION);
-                if (confirm == JOptionPane.YES_OPTION) {
-                    goal.removeTask(task);
-                    saveTasksToCSV(); 
-                    refreshGoalsDisplay(); 
-                }
-            });
+        ProgressRenderer() {
+            progressBar.setStringPainted(true);
+        }
 
-        taskPanel.add(taskCheckBox, BorderLayout.CENTER);
-        taskPanel.add(deleteTaskButton, BorderLayout.EAST);
-        return taskPanel;
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            if (value == null) {
+                return blank.getTableCellRendererComponent(table, "", isSelected, hasFocus, row, column);
+            }
+            progressBar.setValue((Integer) value);
+            return progressBar;
+        }
     }
 
     private void saveGoalsToCSV() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(GOALS_FILE))) {
-            for (Goal goal : goalManager.getGoals()) {
-                writer.write(String.join(",", goal.getName(), String.valueOf(goal.getTargetProgress()),
-                        goal.getDeadline().toString(), String.valueOf(goal.getCurrentProgress()), goal.getStatus()));
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        PersistenceExecutor.get().save(GOALS_FILE, goalManager.goalLines());
     }
 
     private void loadGoalsFromCSV() {
-        File file = new File(GOALS_FILE);
-        if (!file.exists()) return;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                String name = parts[0];
-                int targetProgress = Integer.parseInt(parts[1]);
-                LocalDate deadline = LocalDate.parse(parts[2]);
-                int currentProgress = Integer.parseInt(parts[3]);
-                String status = parts[4];
-
-                Goal goal = new Goal(name, targetProgress, deadline);
-                goal.setCurrentProgress(currentProgress);
-                goal.setStatus(status);
-                goalManager.addGoal(goal);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        goalManager.addGoalRows(DataStore.get().rows(GOALS_FILE));
     }
 
     private void saveTasksToCSV() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(TASKS_FILE))) {
-            for (Goal goal : goalManager.getGoals()) {
-                for (Task task : goal.getTasks()) {
-                    writer.write(String.join(",", goal.getName(), task.getDescription(), String.valueOf(task.isComplete())));
-                    writer.newLine();
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        PersistenceExecutor.get().save(TASKS_FILE, goalManager.taskLines());
     }
 
     private void loadTasksFromCSV() {
-        File file = new File(TASKS_FILE);
-        if (!file.exists()) return;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                String goalName = parts[0];
-                String description = parts[1];
-                boolean isComplete = Boolean.parseBoolean(parts[2]);
-
-                Goal goal = goalManager.findGoal(goalName);
-                if (goal != null) {
-                    Task task = new Task(description);
-                    if (isComplete) task.markComplete(true);
-                    goal.addTask(task);
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        goalManager.addTaskRows(DataStore.get().rows(TASKS_FILE));
     }
 
     public static void main(String[] args) {
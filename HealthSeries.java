@@ -0,0 +1,325 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Daily sleep hours and energy levels, one slot per calendar day from the first recorded day on
+// (NaN where nothing was entered), with prefix sums so any window's mean, variance and
+// sleep-energy correlation is O(1).
+final class HealthSeries {
+    static final String FILE = "health_data.csv";
+
+    private static final int SLEEP_COUNT = 0;
+    private static final int SLEEP_SUM = 1;
+    private static final int SLEEP_SQUARES = 2;
+    private static final int ENERGY_COUNT = 3;
+    private static final int ENERGY_SUM = 4;
+    private static final int ENERGY_SQUARES = 5;
+    private static final int PAIR_COUNT = 6;
+    private static final int PAIR_SLEEP = 7;
+    private static final int PAIR_ENERGY = 8;
+    private static final int PAIR_SLEEP_SQUARES = 9;
+    private static final int PAIR_ENERGY_SQUARES = 10;
+    private static final int PAIR_PRODUCTS = 11;
+    private static final int PREFIX_FIELDS = 12;
+
+    private long startDay;
+    private int size;
+    private double[] sleep = new double[0];
+    private double[] energy = new double[0];
+    // prefix[field][i] sums days [0, i); kept valid up to size.
+    private double[][] prefix = new double[PREFIX_FIELDS][1];
+
+    static final class Stats {
+        final int sleepDays;
+        final double sleepMean;
+        final double sleepVariance;
+        final int energyDays;
+        final double energyMean;
+        final double energyVariance;
+        final int pairedDays;
+        final double correlation;
+
+        private Stats(double[] sums) {
+            sleepDays = (int) sums[SLEEP_COUNT];
+            sleepMean = mean(sums[SLEEP_SUM], sleepDays);
+            sleepVariance = variance(sums[SLEEP_SUM], sums[SLEEP_SQUARES], sleepDays);
+            energyDays = (int) sums[ENERGY_COUNT];
+            energyMean = mean(sums[ENERGY_SUM], energyDays);
+            energyVariance = variance(sums[ENERGY_SUM], sums[ENERGY_SQUARES], energyDays);
+            pairedDays = (int) sums[PAIR_COUNT];
+            double n = pairedDays;
+            double sleepSpread = n * sums[PAIR_SLEEP_SQUARES] - sums[PAIR_SLEEP] * sums[PAIR_SLEEP];
+            double energySpread = n * sums[PAIR_ENERGY_SQUARES] - sums[PAIR_ENERGY] * sums[PAIR_ENERGY];
+            correlation = pairedDays < 3 || sleepSpread <= 0 || energySpread <= 0 ? Double.NaN
+                    : (n * sums[PAIR_PRODUCTS] - sums[PAIR_SLEEP] * sums[PAIR_ENERGY]) / Math.sqrt(sleepSpread * energySpread);
+        }
+
+        private static double mean(double sum, int count) {
+            return count == 0 ? Double.NaN : sum / count;
+        }
+
+        private static double variance(double sum, double squares, int count) {
+            if (count < 2) return Double.NaN;
+            return Math.max(0, (squares - sum * sum / count) / (count - 1));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    LocalDate firstDate() {
+        return size == 0 ? null : LocalDate.ofEpochDay(startDay);
+    }
+
+    LocalDate lastDate() {
+        return size == 0 ? null : LocalDate.ofEpochDay(startDay + size - 1);
+    }
+
+    double sleepOn(LocalDate date) {
+        int index = indexOf(date.toEpochDay());
+        return index < 0 || index >= size ? Double.NaN : sleep[index];
+    }
+
+    double energyOn(LocalDate date) {
+        int index = indexOf(date.toEpochDay());
+        return index < 0 || index >= size ? Double.NaN : energy[index];
+    }
+
+    void set(LocalDate date, double sleepHours, double energyLevel) {
+        int index = ensureDay(date.toEpochDay());
+        sleep[index] = sleepHours;
+        energy[index] = energyLevel;
+        updatePrefix(index);
+    }
+
+    void setSleep(LocalDate date, double sleepHours) {
+        set(date, sleepHours, energyOn(date));
+    }
+
+    void setEnergy(LocalDate date, double energyLevel) {
+        set(date, sleepOn(date), energyLevel);
+    }
+
+    // Inclusive on both ends; days outside the recorded range count as missing.
+    Stats stats(LocalDate from, LocalDate to) {
+        int first = Math.max(0, indexOf(from.toEpochDay()));
+        int end = (int) Math.min(size, Math.max(0, to.toEpochDay() - startDay + 1));
+        double[] sums = new double[PREFIX_FIELDS];
+        if (first < end) {
+            for (int field = 0; field < PREFIX_FIELDS; field++) {
+                sums[field] = prefix[field][end] - prefix[field][first];
+            }
+        }
+        return new Stats(sums);
+    }
+
+    Stats trailing(LocalDate end, int days) {
+        return stats(end.minusDays(days - 1), end);
+    }
+
+    double[] sleepBetween(LocalDate from, LocalDate to) {
+        return slice(sleep, from, to);
+    }
+
+    double[] energyBetween(LocalDate from, LocalDate to) {
+        return slice(energy, from, to);
+    }
+
+    // Mean energy per weekday (Monday first) over the given number of days up to end; NaN where unknown.
+    double[] weekdayEnergy(LocalDate end, int days) {
+        double[] sums = new double[7];
+        int[] counts = new int[7];
+        LocalDate from = end.minusDays(days - 1);
+        double[] values = energyBetween(from, end);
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) continue;
+            int day = from.plusDays(i).getDayOfWeek().getValue() - 1;
+            sums[day] += values[i];
+            counts[day]++;
+        }
+        for (int day = 0; day < sums.length; day++) {
+            sums[day] = counts[day] == 0 ? Double.NaN : sums[day] / counts[day];
+        }
+        return sums;
+    }
+
+    private double[] slice(double[] values, LocalDate from, LocalDate to) {
+        int length = (int) Math.max(0, to.toEpochDay() - from.toEpochDay() + 1);
+        double[] result = new double[length];
+        Arrays.fill(result, Double.NaN);
+        long offset = from.toEpochDay() - startDay;
+        int first = (int) Math.max(0, offset);
+        int end = (int) Math.min(size, offset + length);
+        if (first < end) {
+            System.arraycopy(values, first, result, (int) (first - offset), end - first);
+        }
+        return result;
+    }
+
+    private int indexOf(long epochDay) {
+        long index = epochDay - startDay;
+        return index < 0 ? -1 : index > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) index;
+    }
+
+    private int ensureDay(long epochDay) {
+        if (size == 0) {
+            startDay = epochDay;
+        } else if (epochDay < startDay) {
+            // Rare: an entry before the first recorded day shifts everything right once.
+            int shift = (int) (startDay - epochDay);
+            grow(size + shift);
+            System.arraycopy(sleep, 0, sleep, shift, size);
+            System.arraycopy(energy, 0, energy, shift, size);
+            Arrays.fill(sleep, 0, shift, Double.NaN);
+            Arrays.fill(energy, 0, shift, Double.NaN);
+            startDay = epochDay;
+            size += shift;
+            updatePrefix(0);
+            return 0;
+        }
+        int index = (int) (epochDay - startDay);
+        if (index >= size) {
+            grow(index + 1);
+            Arrays.fill(sleep, size, index + 1, Double.NaN);
+            Arrays.fill(energy, size, index + 1, Double.NaN);
+            int oldSize = size;
+            size = index + 1;
+            updatePrefix(oldSize);
+        }
+        return index;
+    }
+
+    private void grow(int capacity) {
+        if (capacity <= sleep.length) return;
+        int newCapacity = Math.max(capacity, Math.max(16, sleep.length * 2));
+        sleep = Arrays.copyOf(sleep, newCapacity);
+        energy = Arrays.copyOf(energy, newCapacity);
+        for (int field = 0; field < PREFIX_FIELDS; field++) {
+            prefix[field] = Arrays.copyOf(prefix[field], newCapacity + 1);
+        }
+    }
+
+    // Appends touch one slot; an edit re-sums only from the edited day on, which is the recent end in practice.
+    private void updatePrefix(int from) {
+        for (int i = from; i < size; i++) {
+            double s = sleep[i];
+            double e = energy[i];
+            boolean hasSleep = !Double.isNaN(s);
+            boolean hasEnergy = !Double.isNaN(e);
+            boolean paired = hasSleep && hasEnergy;
+            add(SLEEP_COUNT, i, hasSleep ? 1 : 0);
+            add(SLEEP_SUM, i, hasSleep ? s : 0);
+            add(SLEEP_SQUARES, i, hasSleep ? s * s : 0);
+            add(ENERGY_COUNT, i, hasEnergy ? 1 : 0);
+            add(ENERGY_SUM, i, hasEnergy ? e : 0);
+            add(ENERGY_SQUARES, i, hasEnergy ? e * e : 0);
+            add(PAIR_COUNT, i, paired ? 1 : 0);
+            add(PAIR_SLEEP, i, paired ? s : 0);
+            add(PAIR_ENERGY, i, paired ? e : 0);
+            add(PAIR_SLEEP_SQUARES, i, paired ? s * s : 0);
+            add(PAIR_ENERGY_SQUARES, i, paired ? e * e : 0);
+            add(PAIR_PRODUCTS, i, paired ? s * e : 0);
+        }
+    }
+
+    private void add(int field, int i, double value) {
+        prefix[field][i + 1] = prefix[field][i] + value;
+    }
+
+    List<String> toLines() {
+        List<String> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(sleep[i]) && Double.isNaN(energy[i])) continue;
+            lines.add(CsvCodec.formatRow(LocalDate.ofEpochDay(startDay + i).toString(), format(sleep[i]), format(energy[i])));
+        }
+        return lines;
+    }
+
+    static String format(double value) {
+        if (Double.isNaN(value)) return "";
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    static double parse(String value) {
+        if (value == null || value.trim().isEmpty()) return Double.NaN;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    // Rows are "date,sleep,energy". Older files keyed by weekday name ("Monday,7,6") are read as the
+    // week containing today.
+    static HealthSeries load(Path file) throws IOException {
+        if (!Files.exists(file)) return new HealthSeries();
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        return fromEntries(CsvBulkLoader.load(file, cursor -> cursor.fieldCount() < 2 ? null
+                : entry(monday, cursor.field(0), cursor.field(1), cursor.fieldCount() > 2 ? cursor.field(2) : null)));
+    }
+
+    // Same as load, for rows already read (e.g. from DataStore).
+    static HealthSeries fromRows(List<String[]> rows) {
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        List<Object[]> entries = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            if (row.length < 2) continue;
+            Object[] entry = entry(monday, row[0], row[1], row.length > 2 ? row[2] : null);
+            if (entry != null) entries.add(entry);
+        }
+        return fromEntries(entries);
+    }
+
+    private static Object[] entry(LocalDate monday, String key, String sleepValue, String energyValue) {
+        key = key.trim();
+        LocalDate date;
+        try {
+            date = LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            try {
+                date = monday.plusDays(DayOfWeek.valueOf(key.toUpperCase(Locale.ROOT)).getValue() - 1);
+            } catch (IllegalArgumentException unknownDay) {
+                return null;
+            }
+        }
+        return new Object[]{date, parse(sleepValue), parse(energyValue)};
+    }
+
+    private static HealthSeries fromEntries(List<Object[]> rows) {
+        HealthSeries series = new HealthSeries();
+        if (rows.isEmpty()) return series;
+
+        // Size the arrays once, then fill without per-row prefix updates.
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (Object[] row : rows) {
+            long day = ((LocalDate) row[0]).toEpochDay();
+            first = Math.min(first, day);
+            last = Math.max(last, day);
+        }
+        series.startDay = first;
+        series.grow((int) (last - first + 1));
+        series.size = (int) (last - first + 1);
+        Arrays.fill(series.sleep, 0, series.size, Double.NaN);
+        Arrays.fill(series.energy, 0, series.size, Double.NaN);
+        for (Object[] row : rows) {
+            int index = (int) (((LocalDate) row[0]).toEpochDay() - first);
+            series.sleep[index] = (Double) row[1];
+            series.energy[index] = (Double) row[2];
+        }
+        series.updatePrefix(0);
+        return series;
+    }
+}
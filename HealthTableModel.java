@@ -0,0 +1,98 @@
+import javax.swing.table.AbstractTableModel;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+class HealthTableModel extends AbstractTableModel {
+    static final int DAY_COLUMN = 0;
+    static final int SLEEP_COLUMN = 1;
+    static final int ENERGY_COLUMN = 2;
+
+    private static final String[] COLUMN_NAMES = {"Day", "Hours of Sleep", "Energy Level (1-10)"};
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEEE dd-MM-yyyy", Locale.ENGLISH);
+
+    private final HealthSeries series;
+    private LocalDate from;
+    private int days;
+    private Consumer<LocalDate> onEdit = date -> { };
+
+    HealthTableModel(HealthSeries series, LocalDate from, LocalDate to) {
+        this.series = series;
+        setWindow(from, to);
+    }
+
+    void setOnEdit(Consumer<LocalDate> onEdit) {
+        this.onEdit = onEdit;
+    }
+
+    void setWindow(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.days = (int) Math.max(0, to.toEpochDay() - from.toEpochDay() + 1);
+        fireTableDataChanged();
+    }
+
+    LocalDate getFrom() {
+        return from;
+    }
+
+    LocalDate getTo() {
+        return from.plusDays(days - 1);
+    }
+
+    LocalDate dateAt(int row) {
+        return from.plusDays(row);
+    }
+
+    @Override
+    public int getRowCount() {
+        return days;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return column != DAY_COLUMN;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        LocalDate date = dateAt(row);
+        switch (column) {
+            case DAY_COLUMN:
+                return DAY_FORMAT.format(date);
+            case SLEEP_COLUMN:
+                return HealthSeries.format(series.sleepOn(date));
+            default:
+                return HealthSeries.format(series.energyOn(date));
+        }
+    }
+
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        if (column == DAY_COLUMN) return;
+        String text = value == null ? "" : value.toString().trim();
+        double parsed = HealthSeries.parse(text);
+        if (!text.isEmpty() && Double.isNaN(parsed)) return;
+
+        LocalDate date = dateAt(row);
+        double current = column == SLEEP_COLUMN ? series.sleepOn(date) : series.energyOn(date);
+        if (Double.compare(current, parsed) == 0) return;
+        if (column == SLEEP_COLUMN) {
+            series.setSleep(date, parsed);
+        } else {
+            series.setEnergy(date, parsed);
+        }
+        fireTableCellUpdated(row, column);
+        onEdit.accept(date);
+    }
+}
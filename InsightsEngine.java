@@ -0,0 +1,253 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+// Evaluates health rules per day and caches the result. A rule for day d may only read days
+// d - lookbackDays() .. d, so an edit to day d invalidates just d .. d + max lookback.
+class InsightsEngine {
+    static final String CONFIG_FILE = "insights.properties";
+    static final String DEFAULT_RULES = "lowSleep,lowEnergy,sleepDebt,shortSleepStreak,lowEnergyAfterShortSleep";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEEE dd-MM-yyyy", Locale.ENGLISH);
+
+    interface Rule {
+        int lookbackDays();
+
+        // Returns the insight for the day, or null when the rule does not apply.
+        String evaluate(HealthSeries series, LocalDate day);
+    }
+
+    private static volatile Properties sharedConfig;
+
+    private final HealthSeries series;
+    private final List<Rule> rules;
+    private final int maxLookback;
+    private final Map<Long, List<String>> cache = new HashMap<>();
+
+    InsightsEngine(HealthSeries series, List<Rule> rules) {
+        this.series = series;
+        this.rules = rules;
+        int lookback = 0;
+        for (Rule rule : rules) {
+            lookback = Math.max(lookback, rule.lookbackDays());
+        }
+        this.maxLookback = lookback;
+    }
+
+    void dayChanged(LocalDate day) {
+        long first = day.toEpochDay();
+        for (long epochDay = first; epochDay <= first + maxLookback; epochDay++) {
+            cache.remove(epochDay);
+        }
+    }
+
+    List<String> insightsFor(LocalDate day) {
+        return cache.computeIfAbsent(day.toEpochDay(), epochDay -> {
+            if (Double.isNaN(series.sleepOn(day)) && Double.isNaN(series.energyOn(day))) return Collections.emptyList();
+            List<String> insights = new ArrayList<>(2);
+            for (Rule rule : rules) {
+                String insight = rule.evaluate(series, day);
+                if (insight != null) insights.add(insight);
+            }
+            return insights.isEmpty() ? Collections.emptyList() : insights;
+        });
+    }
+
+    String tips(LocalDate from, LocalDate to) {
+        StringBuilder tipsBuilder = new StringBuilder("Healthy Tips:\n");
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            for (String insight : insightsFor(day)) {
+                tipsBuilder.append(DAY_FORMAT.format(day)).append(": ").append(insight).append('\n');
+            }
+        }
+        return tipsBuilder.toString();
+    }
+
+    static InsightsEngine load(HealthSeries series, Path configFile) {
+        return new InsightsEngine(series, rules(readConfig(configFile)));
+    }
+
+    // insights.properties in the working directory, read once per run; Main preloads it off the EDT.
+    static Properties sharedConfig() {
+        Properties config = sharedConfig;
+        if (config == null) {
+            config = readConfig(Paths.get(CONFIG_FILE));
+            sharedConfig = config;
+        }
+        return config;
+    }
+
+    static Properties readConfig(Path configFile) {
+        Properties config = new Properties();
+        if (Files.exists(configFile)) {
+            try (Reader reader = Files.newBufferedReader(configFile)) {
+                config.load(reader);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return config;
+    }
+
+    static List<Rule> rules(Properties config) {
+        double minSleep = number(config, "sleep.min", 7);
+        double minEnergy = number(config, "energy.min", 5);
+        List<Rule> rules = new ArrayList<>();
+        for (String name : config.getProperty("rules", DEFAULT_RULES).split(",")) {
+            switch (name.trim()) {
+                case "lowSleep":
+                    rules.add(new LowSleep(minSleep));
+                    break;
+                case "lowEnergy":
+                    rules.add(new LowEnergy(minEnergy));
+                    break;
+                case "sleepDebt":
+                    rules.add(new SleepDebt(minSleep, (int) number(config, "sleepDebt.days", 7),
+                            number(config, "sleepDebt.hours", 5)));
+                    break;
+                case "shortSleepStreak":
+                    rules.add(new ShortSleepStreak(minSleep, (int) number(config, "shortSleepStreak.days", 3)));
+                    break;
+                case "lowEnergyAfterShortSleep":
+                    rules.add(new LowEnergyAfterShortSleep(number(config, "lowEnergyAfterShortSleep.sleep", 6), minEnergy));
+                    break;
+                case "":
+                    break;
+                default:
+                    System.err.println("Unknown insight rule: " + name.trim());
+            }
+        }
+        return rules;
+    }
+
+    private static double number(Properties config, String key, double defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null) return defaultValue;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    static class LowSleep implements Rule {
+        private final double minSleep;
+
+        LowSleep(double minSleep) {
+            this.minSleep = minSleep;
+        }
+
+        @Override
+        public int lookbackDays() {
+            return 0;
+        }
+
+        @Override
+        public String evaluate(HealthSeries series, LocalDate day) {
+            return series.sleepOn(day) < minSleep
+                    ? "Try to get more sleep. Aim for at least " + HealthSeries.format(minSleep) + " hours." : null;
+        }
+    }
+
+    static class LowEnergy implements Rule {
+        private final double minEnergy;
+
+        LowEnergy(double minEnergy) {
+            this.minEnergy = minEnergy;
+        }
+
+        @Override
+        public int lookbackDays() {
+            return 0;
+        }
+
+        @Override
+        public String evaluate(HealthSeries series, LocalDate day) {
+            return series.energyOn(day) < minEnergy ? "Stay hydrated and include more fruits and vegetables in your diet." : null;
+        }
+    }
+
+    static class SleepDebt implements Rule {
+        private final double targetSleep;
+        private final int days;
+        private final double maxDebt;
+
+        SleepDebt(double targetSleep, int days, double maxDebt) {
+            this.targetSleep = targetSleep;
+            this.days = Math.max(1, days);
+            this.maxDebt = maxDebt;
+        }
+
+        @Override
+        public int lookbackDays() {
+            return days - 1;
+        }
+
+        @Override
+        public String evaluate(HealthSeries series, LocalDate day) {
+            if (Double.isNaN(series.sleepOn(day))) return null;
+            double debt = 0;
+            for (int i = 0; i < days; i++) {
+                double sleep = series.sleepOn(day.minusDays(i));
+                if (!Double.isNaN(sleep)) debt += Math.max(0, targetSleep - sleep);
+            }
+            return debt >= maxDebt
+                    ? String.format("Sleep debt of %.1f h over the last %d days. Plan an early night.", debt, days) : null;
+        }
+    }
+
+    static class ShortSleepStreak implements Rule {
+        private final double minSleep;
+        private final int days;
+
+        ShortSleepStreak(double minSleep, int days) {
+            this.minSleep = minSleep;
+            this.days = Math.max(2, days);
+        }
+
+        @Override
+        public int lookbackDays() {
+            return days - 1;
+        }
+
+        @Override
+        public String evaluate(HealthSeries series, LocalDate day) {
+            for (int i = 0; i < days; i++) {
+                if (!(series.sleepOn(day.minusDays(i)) < minSleep)) return null;
+            }
+            return days + " short nights in a row. Keep a regular bedtime.";
+        }
+    }
+
+    static class LowEnergyAfterShortSleep implements Rule {
+        private final double shortSleep;
+        private final double minEnergy;
+
+        LowEnergyAfterShortSleep(double shortSleep, double minEnergy) {
+            this.shortSleep = shortSleep;
+            this.minEnergy = minEnergy;
+        }
+
+        @Override
+        public int lookbackDays() {
+            return 1;
+        }
+
+        @Override
+        public String evaluate(HealthSeries series, LocalDate day) {
+            return series.energyOn(day) < minEnergy && series.sleepOn(day.minusDays(1)) < shortSleep
+                    ? "Low energy after a short night. Sleep is the first thing to fix." : null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+final class Json {
+    private Json() {
+    }
+
+    static StringBuilder string(StringBuilder out, String value) {
+        if (value == null) return out.append("null");
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"');
+    }
+
+    static StringBuilder field(StringBuilder out, String name, String value) {
+        return string(string(out, name).append(':'), value);
+    }
+
+    static StringBuilder field(StringBuilder out, String name, long value) {
+        return string(out, name).append(':').append(value);
+    }
+
+    static StringBuilder field(StringBuilder out, String name, double value) {
+        return string(out, name).append(':').append(Double.isFinite(value) ? String.valueOf(value) : "null");
+    }
+
+    static StringBuilder field(StringBuilder out, String name, boolean value) {
+        return string(out, name).append(':').append(value);
+    }
+}
@@ -1,22 +1,69 @@
 import javax.swing.*;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 public class Main {
+    private static final String[] PRELOAD_FILES = {"Goals.csv", "subjects.csv", "Tasks.csv", "Timetable.csv", "Exams.csv",
+            HealthSeries.FILE};
+    private static final long START_NANOS = System.nanoTime();
+
+    private static final Map<String, Supplier<JComponent>> tabFactories = new LinkedHashMap<>();
+    private static final Map<String, JComponent> builtTabs = new LinkedHashMap<>();
+
     public static void main(String[] args) {
+        preloadData();
+        SwingUtilities.invokeLater(Main::createAndShowGui);
+    }
+
+    // Everything a tab reads while it is built, so building it on the EDT finds the data in memory.
+    private static void preloadData() {
+        List<Runnable> preloads = new ArrayList<>();
+        for (String fileName : PRELOAD_FILES) {
+            preloads.add(() -> DataStore.get().rows(fileName));
+        }
+        preloads.add(SubjectRepository::get);
+        preloads.add(InsightsEngine::sharedConfig);
+
+        ExecutorService preloader = Executors.newFixedThreadPool(preloads.size(), r -> {
+            Thread thread = new Thread(r, "Main-preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[preloads.size()];
+        for (int i = 0; i < loads.length; i++) {
+            loads[i] = CompletableFuture.runAsync(preloads.get(i), preloader);
+        }
+        CompletableFuture.allOf(loads).whenComplete((result, error) -> {
+            logPhase("data preloaded");
+            preloader.shutdown();
+        });
+    }
+
+    private static void createAndShowGui() {
         JFrame frame = new JFrame("StudyNAV");
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setSize(700, 700);
-        MainAppSwing tb = new MainAppSwing();
-        JTabbedPane tabbedPane = new JTabbedPane();
-        tabbedPane.addTab("Dashboard", new Dashboard());
 
-        AttendanceTrackerGUI attendanceTab = new AttendanceTrackerGUI();
-        tabbedPane.addTab("Timetable", tb );
-        tabbedPane.addTab("Goals", new GoalTrackingApp());
-        tabbedPane.addTab("Attendance", attendanceTab);
-        tabbedPane.addTab("Energy", new EnergyHealthTracker());
-        tabbedPane.addTab("Profile", new StudentPanel());
+        tabFactories.put("Dashboard", Dashboard::new);
+        tabFactories.put("Timetable", MainAppSwing::new);
+        tabFactories.put("Goals", GoalTrackingApp::new);
+        tabFactories.put("Attendance", AttendanceTrackerGUI::new);
+        tabFactories.put("Energy", EnergyHealthTracker::new);
+        tabFactories.put("Profile", StudentPanel::new);
+
+        JTabbedPane tabbedPane = new JTabbedPane();
+        for (String title : tabFactories.keySet()) {
+            tabbedPane.addTab(title, createPlaceholder());
+        }
 
         tabbedPane.addChangeListener(new ChangeListener() {
             @Override
@@ -24,20 +71,51 @@ public class Main {
                 JTabbedPane sourceTabbedPane = (JTabbedPane) e.getSource();
                 int selectedIndex = sourceTabbedPane.getSelectedIndex();
                 String selectedTab = sourceTabbedPane.getTitleAt(selectedIndex);
-                if ("Attendance".equals(selectedTab)) {
-                    attendanceTab.refreshData();
-                }
-        
-                if ("Timetable".equals(selectedTab)) {
-                    tb.refreshData();
+                if (!builtTabs.containsKey(selectedTab)) {
+                    buildTab(sourceTabbedPane, selectedIndex);
                 }
             }
         });
-        
 
         frame.add(tabbedPane);
+        frame.setVisible(true);
+        logPhase("frame visible");
 
+        startServices(frame);
 
-        frame.setVisible(true);
+        SwingUtilities.invokeLater(() -> buildTab(tabbedPane, tabbedPane.getSelectedIndex()));
+    }
+
+    // The engines read their data files when they start, so they start off the EDT.
+    private static void startServices(JFrame frame) {
+        Thread services = new Thread(() -> {
+            ReminderEngine.get().start(reminder -> SwingUtilities.invokeLater(() ->
+                    JOptionPane.showMessageDialog(frame, reminder.message(), "Reminder", JOptionPane.INFORMATION_MESSAGE)));
+            DeadlineScheduler.get().start();
+            logPhase("services started");
+        }, "Main-services");
+        services.setDaemon(true);
+        services.start();
+    }
+
+    private static void buildTab(JTabbedPane tabbedPane, int index) {
+        String title = tabbedPane.getTitleAt(index);
+        if (builtTabs.containsKey(title)) return;
+
+        long start = System.nanoTime();
+        JComponent tab = tabFactories.get(title).get();
+        builtTabs.put(title, tab);
+        tabbedPane.setComponentAt(index, tab);
+        System.out.printf("[startup] %s tab built in %d ms%n", title, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static JComponent createPlaceholder() {
+        JPanel placeholder = new JPanel(new BorderLayout());
+        placeholder.add(new JLabel("Loading...", SwingConstants.CENTER), BorderLayout.CENTER);
+        return placeholder;
+    }
+
+    private static void logPhase(String phase) {
+        System.out.printf("[startup] %s after %d ms%n", phase, (System.nanoTime() - START_NANOS) / 1_000_000);
     }
 }
@@ -2,31 +2,48 @@
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.io.*;
-import java.text.SimpleDateFormat;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.List;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableRowSorter;
 
 public class MainAppSwing extends JPanel {
 
     private static final String[] DAYS = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday"};
-    private static final Map<String, JComboBox<String>> timetableMap = new HashMap<>();
-    private static final DefaultTableModel examModel = new DefaultTableModel(new String[]{"Subject", "Date", "Priority"}, 0);
+    private static final int DEFAULT_PERIODS = 9;
+    private static final String[] ACTIVITIES = {"Play", "Study", "Rest"};
+    private static final ExamTableModel examModel = new ExamTableModel(new ExamIndex());
+    private final TimetableTableModel timetableModel;
+    private final JComboBox<String> cellEditorBox = new JComboBox<>();
     JComboBox<String> subjectField;
 
     private static final Color CLASS_COLOR = new Color(173, 216, 230);
     private static final Color STUDY_COLOR = new Color(144, 238, 144);
     private static final Color PLAY_COLOR = new Color(255, 182, 193);
     private static final Color REST_COLOR = new Color(255, 255, 224);
+    private static final Color CONFLICT_COLOR = new Color(200, 0, 0);
 
     private static final String TIMETABLE_FILE = "Timetable.csv";
     private static final String EXAMS_FILE = "Exams.csv";
-    private static final String SUBJECTS_FILE = "Subjects.csv";
+    private static final String PLAN_FILE = "StudyPlan.csv";
+    private static final int ENERGY_HISTORY_DAYS = 28;
+    private static final int MAX_PLAN_WEEKS = 26;
+    private static final long PLAN_BUDGET_MILLIS = 3000;
 
     private static List<String> subjectsList = new ArrayList<>();
 
     public MainAppSwing() {
+        this(DEFAULT_PERIODS, DAYS);
+    }
+
+    public MainAppSwing(int periods, String[] days) {
+        timetableModel = new TimetableTableModel(periods, days);
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
         setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
@@ -43,64 +60,113 @@ public class MainAppSwing extends JPanel {
 
         loadTimetableFromCSV();
         loadExamsFromCSV();
+
+        EventBus bus = EventBus.get();
+        bus.subscribe(AppEvents.SubjectAdded.class, event -> {
+            String subName = event.subject.getSubName().trim();
+            subjectsList.add(subName);
+            ((DefaultComboBoxModel<String>) cellEditorBox.getModel()).addElement(subName);
+            subjectField.addItem(subName);
+        });
+        bus.subscribe(AppEvents.SubjectRemoved.class, event -> {
+            String subName = event.subName.trim();
+            subjectsList.remove(subName);
+            ((DefaultComboBoxModel<String>) cellEditorBox.getModel()).removeElement(subName);
+            subjectField.removeItem(subName);
+        });
+        bus.subscribe(AppEvents.SubjectsReloaded.class, event -> {
+            loadSubjectsFromCSV();
+            updateActivityModel();
+            subjectField.setModel(new DefaultComboBoxModel<>(subjectsList.toArray(new String[0])));
+        });
     }
 
     private JPanel createTimetableGrid() {
-        JPanel grid = new JPanel(new GridBagLayout());
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(5, 5, 5, 5);
-
-        for (int i = 0; i < DAYS.length; i++) {
-            gbc.gridx = i + 1;
-            gbc.gridy = 0;
-            grid.add(new JLabel(DAYS[i]), gbc);
-        }
+        JPanel grid = new JPanel(new BorderLayout(5, 5));
+
+        JTable table = new JTable(timetableModel);
+        table.setRowHeight(30);
+        table.setCellSelectionEnabled(true);
+        table.getTableHeader().setReorderingAllowed(false);
+        table.setDefaultRenderer(Object.class, new ActivityRenderer());
+        table.setDefaultEditor(Object.class, new DefaultCellEditor(cellEditorBox));
+        table.getColumnModel().getColumn(0).setPreferredWidth(80);
+        table.setPreferredScrollableViewportSize(new Dimension(
+                80 + 150 * timetableModel.getDayCount(), 30 * timetableModel.getPeriodCount()));
+        updateActivityModel();
 
-        for (int row = 1; row <= 9; row++) {
-            gbc.gridx = 0;
-            gbc.gridy = row;
-            grid.add(new JLabel("Period " + row), gbc);
-            for (int col = 0; col < DAYS.length; col++) {
-                JComboBox<String> cell = createEditableCell();
-                gbc.gridx = col + 1;
-                grid.add(cell, gbc);
-                String cellKey = DAYS[col] + row;
-                timetableMap.put(cellKey, cell);
+        JButton saveButton = new JButton("Save Timetable");
+        saveButton.addActionListener(e -> {
+            if (table.isEditing()) {
+                table.getCellEditor().stopCellEditing();
             }
-        }
+            saveTimetableToCSV();
+        });
 
-        JButton saveButton = new JButton("Save Timetable");
-        saveButton.addActionListener(e -> saveTimetableToCSV());
-        gbc.gridx = 0;
-        gbc.gridy = 10;
-        gbc.gridwidth = DAYS.length + 1;
-        grid.add(saveButton, gbc);
+        JButton generateButton = new JButton("Generate Plan");
+        generateButton.addActionListener(e -> {
+            if (table.isEditing()) {
+                table.getCellEditor().stopCellEditing();
+            }
+            generatePlan(generateButton);
+        });
+
+        grid.add(new JScrollPane(table), BorderLayout.CENTER);
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.add(generateButton);
+        buttonPanel.add(saveButton);
+        grid.add(buttonPanel, BorderLayout.SOUTH);
 
         return grid;
     }
 
-    private JComboBox<String> createEditableCell() {
-        JComboBox<String> cell = new JComboBox<>(new String[]{"Play", "Study", "Rest"});
-        for (String subject : subjectsList) {
-            cell.addItem(subject);
+    private void updateActivityModel() {
+        String[] items = new String[ACTIVITIES.length + subjectsList.size()];
+        System.arraycopy(ACTIVITIES, 0, items, 0, ACTIVITIES.length);
+        for (int i = 0; i < subjectsList.size(); i++) {
+            items[ACTIVITIES.length + i] = subjectsList.get(i);
         }
-        cell.setPreferredSize(new Dimension(150, 30));  
-        cell.addActionListener(e -> updateCellColor((JComboBox<String>) e.getSource()));
-        return cell;
+        cellEditorBox.setModel(new DefaultComboBoxModel<>(items));
     }
 
-    private void updateCellColor(JComboBox<String> cell) {
-        String text = (String) cell.getSelectedItem();
-        if (text == null) return;
+    private static Color colorFor(String text) {
         text = text.toLowerCase();
         if (text.contains("study")) {
-            cell.setBackground(STUDY_COLOR);
+            return STUDY_COLOR;
         } else if (text.contains("play")) {
-            cell.setBackground(PLAY_COLOR);
+            return PLAY_COLOR;
         } else if (text.contains("rest")) {
-            cell.setBackground(REST_COLOR);
+            return REST_COLOR;
         } else {
-            cell.setBackground(CLASS_COLOR);
+            return CLASS_COLOR;
+        }
+    }
+
+    private static class ActivityRenderer extends DefaultTableCellRenderer {
+        private final Map<String, Color> colorCache = new HashMap<>();
+
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            if (column == 0 || value == null) {
+                setBackground(isSelected ? table.getSelectionBackground() : table.getBackground());
+            } else if (!isSelected) {
+                setBackground(colorCache.computeIfAbsent((String) value, MainAppSwing::colorFor));
+            }
+            return this;
+        }
+    }
+
+    private static class ExamDateRenderer extends DefaultTableCellRenderer {
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            super.getTableCellRendererComponent(table, Exam.DATE_FORMAT.format((LocalDate) value),
+                    isSelected, hasFocus, row, column);
+            boolean conflict = examModel.hasConflict(table.convertRowIndexToModel(row));
+            setForeground(isSelected ? table.getSelectionForeground() : conflict ? CONFLICT_COLOR : table.getForeground());
+            return this;
         }
     }
 
@@ -109,8 +175,25 @@ public class MainAppSwing extends JPanel {
         examPanel.setLayout(new BoxLayout(examPanel, BoxLayout.Y_AXIS));
 
         JTable examTable = new JTable(examModel);
+        TableRowSorter<ExamTableModel> examSorter = new TableRowSorter<>(examModel);
+        examTable.setRowSorter(examSorter);
+        examTable.setDefaultRenderer(LocalDate.class, new ExamDateRenderer());
         JScrollPane tableScrollPane = new JScrollPane(examTable);
 
+        JCheckBox upcomingBox = new JCheckBox("Upcoming only");
+        upcomingBox.addActionListener(e -> {
+            RowFilter<ExamTableModel, Integer> upcoming = new RowFilter<ExamTableModel, Integer>() {
+                @Override
+                public boolean include(Entry<? extends ExamTableModel, ? extends Integer> entry) {
+                    return !entry.getModel().examAt(entry.getIdentifier()).getDate().isBefore(LocalDate.now());
+                }
+            };
+            examSorter.setRowFilter(upcomingBox.isSelected() ? upcoming : null);
+        });
+        JLabel nextExamLabel = new JLabel();
+        examModel.addTableModelListener(e -> showNextExam(nextExamLabel));
+        showNextExam(nextExamLabel);
+
         subjectField = new JComboBox<>(subjectsList.toArray(new String[0]));
         JSpinner dateSpinner = new JSpinner(new SpinnerDateModel());
         JSpinner.DateEditor dateEditor = new JSpinner.DateEditor(dateSpinner, "dd-MM-yyyy");  
@@ -120,12 +203,21 @@ public class MainAppSwing extends JPanel {
         JButton addExamButton = new JButton("Add Exam");
         addExamButton.addActionListener((ActionEvent e) -> {
             String subject = (String) subjectField.getSelectedItem();
-            String date = new SimpleDateFormat("dd-MM-yyyy").format(dateSpinner.getValue());  
-            String priority = String.valueOf(prioritySlider.getValue());
-
-            if (subject != null && !date.isEmpty()) {
-                examModel.addRow(new String[]{subject, date, priority});
+            LocalDate date = ((Date) dateSpinner.getValue()).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+            int priority = prioritySlider.getValue();
+
+            if (subject != null) {
+                List<Exam> sameDay = examModel.getIndex().sameDay(date);
+                if (!sameDay.isEmpty()) {
+                    int confirm = JOptionPane.showConfirmDialog(this,
+                            "Already scheduled on " + Exam.DATE_FORMAT.format(date) + ": " + sameDay + "\nAdd anyway?",
+                            "Exam Conflict", JOptionPane.YES_NO_OPTION);
+                    if (confirm != JOptionPane.YES_OPTION) return;
+                }
+                Exam exam = new Exam(subject, date, priority);
+                examModel.addExam(exam);
                 saveExamsToCSV();
+                EventBus.get().publish(new AppEvents.ExamAdded(exam));
             }
         });
 
@@ -133,8 +225,9 @@ public class MainAppSwing extends JPanel {
         removeExamButton.addActionListener(e -> {
             int selectedRow = examTable.getSelectedRow();
             if (selectedRow != -1) {
-                examModel.removeRow(selectedRow);
+                Exam exam = examModel.removeExam(examTable.convertRowIndexToModel(selectedRow));
                 saveExamsToCSV();
+                EventBus.get().publish(new AppEvents.ExamRemoved(exam));
             }
         });
 
@@ -148,126 +241,133 @@ public class MainAppSwing extends JPanel {
         inputPanel.add(addExamButton);
         inputPanel.add(removeExamButton);
 
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filterPanel.add(upcomingBox);
+        filterPanel.add(nextExamLabel);
+
+        examPanel.add(filterPanel);
         examPanel.add(tableScrollPane);
         examPanel.add(inputPanel);
 
         return examPanel;
     }
 
+    private static void showNextExam(JLabel label) {
+        Exam next = examModel.getIndex().next(LocalDate.now());
+        label.setText(next == null ? "No upcoming exams" : "Next: " + next.getSubject() + " on "
+                + Exam.DATE_FORMAT.format(next.getDate()));
+    }
+
     private void loadSubjectsFromCSV() {
         subjectsList.clear();
-        File file = new File(SUBJECTS_FILE);
-        if (!file.exists()) return;
-    
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] values = line.split(",");
-                subjectsList.add(values[0].trim()); 
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        for (Subject subject : SubjectRepository.get().snapshot()) {
+            subjectsList.add(subject.getSubName().trim()); 
         }
     }
     
 
     private void saveTimetableToCSV() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(TIMETABLE_FILE))) {
-            for (int row = 1; row <= 9; row++) {
-                for (int col = 0; col < DAYS.length; col++) {
-                    String cellKey = DAYS[col] + row;
-                    String value = (String) timetableMap.get(cellKey).getSelectedItem();
-                    writer.write(value == null || value.isEmpty() ? "Rest" : value);
-                    if (col < DAYS.length - 1) {
-                        writer.write(",");
-                    }
-                }
-                writer.newLine();
+        List<String> lines = new ArrayList<>();
+        String[][] cells = new String[timetableModel.getPeriodCount()][timetableModel.getDayCount()];
+        for (int row = 0; row < cells.length; row++) {
+            for (int col = 0; col < cells[row].length; col++) {
+                String value = timetableModel.getCell(row, col);
+                cells[row][col] = value == null || value.isEmpty() ? "Rest" : value;
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+            lines.add(CsvCodec.formatRow(cells[row]));
         }
+        PersistenceExecutor.get().save(TIMETABLE_FILE, lines);
+        EventBus.get().publish(new AppEvents.TimetableEdited(cells));
     }
 
-    private void loadTimetableFromCSV() {
-        File file = new File(TIMETABLE_FILE);
-        if (!file.exists()) return;
-    
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            for (int row = 1; row <= 9; row++) {
-                String line = reader.readLine();
-                if (line != null) {
-                    String[] values = line.split(",");
-                    for (int col = 0; col < DAYS.length; col++) {
-                        String cellKey = DAYS[col] + row;
-                        JComboBox<String> cell = timetableMap.get(cellKey);
-                        if (cell != null) {
-                            cell.setSelectedItem(values[col].trim());
-                            updateCellColor(cell);
-                        }
-                    }
-                }
+    private void generatePlan(JButton generateButton) {
+        String[][] template = new String[timetableModel.getPeriodCount()][timetableModel.getDayCount()];
+        for (int row = 0; row < template.length; row++) {
+            for (int col = 0; col < template[row].length; col++) {
+                template[row][col] = timetableModel.getCell(row, col);
             }
-        } catch (IOException e) {
-            e.printStackTrace();
         }
+        List<Exam> exams = examModel.getIndex().all();
+        LocalDate today = LocalDate.now();
+        Exam lastExam = exams.isEmpty() ? null : exams.get(exams.size() - 1);
+        if (lastExam == null || !lastExam.getDate().isAfter(today)) {
+            JOptionPane.showMessageDialog(this, "Add an upcoming exam to generate a study plan.");
+            return;
+        }
+        long firstMonday = today.with(DayOfWeek.MONDAY).toEpochDay();
+        int weeks = (int) Math.min(MAX_PLAN_WEEKS, (lastExam.getEpochDay() - firstMonday) / 7 + 1);
+
+        generateButton.setEnabled(false);
+        Thread worker = new Thread(() -> {
+            List<String[][]> plan = null;
+            try {
+                double[] energy = HealthSeries.load(Paths.get(HealthSeries.FILE)).weekdayEnergy(today, ENERGY_HISTORY_DAYS);
+                StudyPlanner planner = new StudyPlanner(exams, SubjectRepository.get().snapshot(), energy);
+                plan = planner.plan(today, weeks, template, PLAN_BUDGET_MILLIS);
+                savePlanToCSV(today, plan);
+            } catch (IOException | RuntimeException e) {
+                e.printStackTrace();
+            }
+            List<String[][]> result = plan;
+            SwingUtilities.invokeLater(() -> {
+                generateButton.setEnabled(true);
+                if (result == null || result.isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Could not generate a study plan.");
+                    return;
+                }
+                timetableModel.setCells(result.get(0));
+            });
+        }, "study-planner");
+        worker.setDaemon(true);
+        worker.start();
     }
-    
 
-    private void saveExamsToCSV() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(EXAMS_FILE))) {
-            for (int i = 0; i < examModel.getRowCount(); i++) {
-                for (int j = 0; j < examModel.getColumnCount(); j++) {
-                    writer.write((String) examModel.getValueAt(i, j));
-                    if (j < examModel.getColumnCount() - 1) {
-                        writer.write(",");
-                    }
-                }
-                writer.newLine();
+    private static void savePlanToCSV(LocalDate start, List<String[][]> plan) {
+        List<String> lines = new ArrayList<>();
+        LocalDate monday = start.with(DayOfWeek.MONDAY);
+        for (int week = 0; week < plan.size(); week++) {
+            String weekStart = Exam.DATE_FORMAT.format(monday.plusWeeks(week));
+            for (String[] periodCells : plan.get(week)) {
+                String[] fields = new String[periodCells.length + 1];
+                fields[0] = weekStart;
+                System.arraycopy(periodCells, 0, fields, 1, periodCells.length);
+                lines.add(CsvCodec.formatRow(fields));
             }
-        } catch (IOException e) {
-            e.printStackTrace();
         }
+        PersistenceExecutor.get().save(PLAN_FILE, lines);
     }
 
-    private void loadExamsFromCSV() {
-        File file = new File(EXAMS_FILE);
-        if (!file.exists()) return;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] values = line.split(",");
-                examModel.addRow(values);
+    private void loadTimetableFromCSV() {
+        List<String[]> rows = DataStore.get().rows(TIMETABLE_FILE);
+        String[][] values = new String[timetableModel.getPeriodCount()][timetableModel.getDayCount()];
+        for (int row = 0; row < values.length && row < rows.size(); row++) {
+            String[] fields = rows.get(row);
+            for (int col = 0; col < values[row].length && col < fields.length; col++) {
+                values[row][col] = fields[col].trim();
             }
-        } catch (IOException e) {
-            e.printStackTrace();
         }
+        timetableModel.setCells(values);
     }
-    public void refreshData() {
-        loadSubjectsFromCSV();
-    
-        for (JComboBox<String> cell : timetableMap.values()) {
-            String selected = (String) cell.getSelectedItem();
-            cell.removeAllItems();
-    
-            cell.addItem("Play");   
-            cell.addItem("Study");
-            cell.addItem("Rest");
-    
-            for (String subject : subjectsList) {
-                cell.addItem(subject);
-            }
-    
-            if (selected != null) {
-                cell.setSelectedItem(selected);
-            }
+
+    private void saveExamsToCSV() {
+        List<String> lines = new ArrayList<>();
+        for (Exam exam : examModel.getIndex().all()) {
+            lines.add(CsvCodec.formatRow(exam.toRow()));
         }
-        subjectField.removeAllItems();
-        for (String subject : subjectsList) {
-            subjectField.addItem(subject);
+        PersistenceExecutor.get().save(EXAMS_FILE, lines);
+    }
+
+    private void loadExamsFromCSV() {
+        List<Exam> exams = new ArrayList<>();
+        for (String[] row : DataStore.get().rows(EXAMS_FILE)) {
+            if (row.length < 3) continue;
+            try {
+                exams.add(Exam.fromRow(row));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                System.err.println("Skipping exam row: " + e.getMessage());
+            }
         }
-        loadTimetableFromCSV();
+        examModel.setExams(exams);
     }
     
     
@@ -0,0 +1,108 @@
+import javax.swing.*;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+class PersistenceExecutor {
+    private static final long COALESCE_DELAY_MS = 100;
+    private static final PersistenceExecutor INSTANCE = new PersistenceExecutor();
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "PersistenceExecutor-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, PendingWrite> pending = new LinkedHashMap<>();
+
+    private PersistenceExecutor() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "PersistenceExecutor-flush"));
+    }
+
+    static PersistenceExecutor get() {
+        return INSTANCE;
+    }
+
+    void save(String fileName, List<String> lines) {
+        save(fileName, lines, Throwable::printStackTrace);
+    }
+
+    void save(String fileName, List<String> lines, Consumer<IOException> onError) {
+        save(fileName, lines, onError, () -> { });
+    }
+
+    // onSaved runs on the EDT once the lines are on disk. A later save of the same file that replaces
+    // this one before it is written takes its callbacks with it.
+    void save(String fileName, List<String> lines, Consumer<IOException> onError, Runnable onSaved) {
+        boolean schedule;
+        synchronized (pending) {
+            schedule = pending.put(fileName, new PendingWrite(lines, onError, onSaved)) == null;
+        }
+        if (schedule) {
+            writer.schedule(() -> writePending(fileName), COALESCE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flush() {
+        List<String> fileNames;
+        synchronized (pending) {
+            fileNames = new ArrayList<>(pending.keySet());
+        }
+        for (String fileName : fileNames) {
+            writePending(fileName);
+        }
+    }
+
+    private void shutdown() {
+        writer.shutdown();
+        flush();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePending(String fileName) {
+        PendingWrite write;
+        synchronized (pending) {
+            write = pending.remove(fileName);
+        }
+        if (write == null) return;
+        try {
+            writeAtomically(Paths.get(fileName), write.lines);
+            SwingUtilities.invokeLater(write.onSaved);
+        } catch (IOException e) {
+            SwingUtilities.invokeLater(() -> write.onError.accept(e));
+        }
+    }
+
+    static synchronized void writeAtomically(Path file, List<String> lines) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter bw = Files.newBufferedWriter(tmp)) {
+            for (String line : lines) {
+                bw.write(line);
+                bw.newLine();
+            }
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static class PendingWrite {
+        final List<String> lines;
+        final Consumer<IOException> onError;
+        final Runnable onSaved;
+
+        PendingWrite(List<String> lines, Consumer<IOException> onError, Runnable onSaved) {
+            this.lines = lines;
+            this.onError = onError;
+            this.onSaved = onSaved;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+// Precomputes reminder instants for exams and goal deadlines and sleeps until the next one is due.
+// Exams.csv and Goals.csv changes are diffed against what is tracked, so only added or removed items
+// touch the queue.
+class ReminderEngine {
+    static final Duration[] LEAD_TIMES = {Duration.ofDays(7), Duration.ofDays(1), Duration.ofHours(1)};
+    static final LocalTime EXAM_START = LocalTime.of(9, 0);
+
+    private static final String EXAMS_FILE = "Exams.csv";
+    private static final String GOALS_FILE = "Goals.csv";
+    private static final ReminderEngine INSTANCE = new ReminderEngine();
+
+    static final class Reminder {
+        final String title;
+        final long eventMillis;
+        final long triggerMillis;
+        final Duration leadTime;
+        private final Item item;
+
+        private Reminder(Item item, Duration leadTime) {
+            this.item = item;
+            this.title = item.title;
+            this.eventMillis = item.eventMillis;
+            this.leadTime = leadTime;
+            this.triggerMillis = item.eventMillis - leadTime.toMillis();
+        }
+
+        // Worded from the time left, which differs from leadTime when a missed reminder fires late.
+        String message() {
+            return title + " in " + describe(Duration.ofMillis(eventMillis - System.currentTimeMillis())) + ".";
+        }
+    }
+
+    private static final class Item {
+        final String source;
+        final String key;
+        final String title;
+        final long eventMillis;
+
+        Item(String source, String key, String title, long eventMillis) {
+            this.source = source;
+            this.key = key;
+            this.title = title;
+            this.eventMillis = eventMillis;
+        }
+    }
+
+    private final Object lock = new Object();
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>((a, b) -> Long.compare(a.triggerMillis, b.triggerMillis));
+    // source file -> item key -> item; a queued reminder is live only while its item is still tracked.
+    private final Map<String, Map<String, Item>> tracked = new HashMap<>();
+    private Consumer<Reminder> listener = reminder -> { };
+    private int staleReminders;
+    private Thread worker;
+
+    static ReminderEngine get() {
+        return INSTANCE;
+    }
+
+    void start(Consumer<Reminder> listener) {
+        synchronized (lock) {
+            this.listener = listener;
+            if (worker != null) return;
+            worker = new Thread(this::run, "ReminderEngine");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        // Edits made in the app arrive as events; the file reload that follows finds them already tracked.
+        EventBus bus = EventBus.get();
+        bus.subscribe(AppEvents.ExamAdded.class, event -> examAdded(event.exam));
+        bus.subscribe(AppEvents.ExamRemoved.class, event -> examRemoved(event.exam));
+        bus.subscribe(AppEvents.GoalAdded.class, event -> goalAdded(event.goal));
+        bus.subscribe(AppEvents.GoalRemoved.class, event -> goalRemoved(event.goal));
+        DataStore store = DataStore.get();
+        store.addListener(EXAMS_FILE, (fileName, rows) -> syncExams(rows));
+        store.addListener(GOALS_FILE, (fileName, rows) -> syncGoals(rows));
+        syncExams(store.rows(EXAMS_FILE));
+        syncGoals(store.rows(GOALS_FILE));
+    }
+
+    void syncExams(List<String[]> rows) {
+        Map<String, Item> items = new HashMap<>();
+        for (String[] row : rows) {
+            if (row.length < 3) continue;
+            try {
+                Item item = examItem(Exam.fromRow(row));
+                items.put(item.key, item);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                // Unparsable rows get no reminders.
+            }
+        }
+        sync(EXAMS_FILE, items);
+    }
+
+    void syncGoals(List<String[]> rows) {
+        Map<String, Item> items = new HashMap<>();
+        for (String[] row : rows) {
+            if (row.length < 5 || "Completed".equals(row[4].trim())) continue;
+            try {
+                Item item = goalItem(row[0], LocalDate.parse(row[2].trim()));
+                items.put(item.key, item);
+            } catch (DateTimeParseException e) {
+                // Unparsable rows get no reminders.
+            }
+        }
+        sync(GOALS_FILE, items);
+    }
+
+    void examAdded(Exam exam) {
+        track(examItem(exam));
+    }
+
+    void examRemoved(Exam exam) {
+        untrack(EXAMS_FILE, examItem(exam).key);
+    }
+
+    void goalAdded(Goal goal) {
+        if ("Completed".equals(goal.getStatus())) return;
+        track(goalItem(goal.getName(), goal.getDeadline()));
+    }
+
+    void goalRemoved(Goal goal) {
+        untrack(GOALS_FILE, goalItem(goal.getName(), goal.getDeadline()).key);
+    }
+
+    private static Item examItem(Exam exam) {
+        long start = exam.getDate().atTime(EXAM_START).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Item(EXAMS_FILE, String.join("\u0000", exam.toRow()), exam.getSubject() + " exam on "
+                + Exam.DATE_FORMAT.format(exam.getDate()) + " (priority " + exam.getPriority() + ")", start);
+    }
+
+    private static Item goalItem(String name, LocalDate deadline) {
+        long due = deadline.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Item(GOALS_FILE, name + "\u0000" + deadline, "Goal '" + name + "' is due " + deadline, due);
+    }
+
+    private void track(Item item) {
+        synchronized (lock) {
+            Map<String, Item> current = tracked.computeIfAbsent(item.source, k -> new HashMap<>());
+            if (current.putIfAbsent(item.key, item) == null && enqueue(item, System.currentTimeMillis())) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void untrack(String source, String key) {
+        synchronized (lock) {
+            Map<String, Item> current = tracked.get(source);
+            if (current == null || current.remove(key) == null) return;
+            staleReminders += LEAD_TIMES.length;
+            if (staleReminders > queue.size() / 2) purgeStale();
+        }
+    }
+
+    int pendingCount() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    private void sync(String source, Map<String, Item> items) {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            Map<String, Item> current = tracked.computeIfAbsent(source, k -> new HashMap<>());
+            int before = current.size();
+            current.keySet().retainAll(items.keySet());
+            staleReminders += (before - current.size()) * LEAD_TIMES.length;
+            boolean added = false;
+            for (Map.Entry<String, Item> entry : items.entrySet()) {
+                if (current.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                    added |= enqueue(entry.getValue(), now);
+                }
+            }
+            if (staleReminders > queue.size() / 2) purgeStale();
+            if (added) lock.notifyAll();
+        }
+    }
+
+    // Queues the lead times still ahead; if some have already passed but the event has not, only the
+    // closest of those is kept so it fires right away instead of replaying every missed reminder.
+    private boolean enqueue(Item item, long now) {
+        if (item.eventMillis <= now) return false;
+        Reminder overdue = null;
+        boolean added = false;
+        for (Duration leadTime : LEAD_TIMES) {
+            Reminder reminder = new Reminder(item, leadTime);
+            if (reminder.triggerMillis > now) {
+                queue.add(reminder);
+                added = true;
+            } else if (overdue == null || reminder.triggerMillis > overdue.triggerMillis) {
+                overdue = reminder;
+            }
+        }
+        if (overdue != null) {
+            queue.add(overdue);
+            added = true;
+        }
+        return added;
+    }
+
+    private boolean isLive(Reminder reminder) {
+        Map<String, Item> items = tracked.get(reminder.item.source);
+        return items != null && items.get(reminder.item.key) == reminder.item;
+    }
+
+    // Removed items leave their reminders queued; they are skipped when due and swept out here once
+    // they make up a large share of the queue.
+    private void purgeStale() {
+        for (Iterator<Reminder> it = queue.iterator(); it.hasNext(); ) {
+            if (!isLive(it.next())) it.remove();
+        }
+        staleReminders = 0;
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Reminder due;
+                Consumer<Reminder> target;
+                synchronized (lock) {
+                    while (true) {
+                        Reminder head = queue.peek();
+                        if (head == null) {
+                            lock.wait();
+                            continue;
+                        }
+                        long delay = head.triggerMillis - System.currentTimeMillis();
+                        if (delay > 0) {
+                            lock.wait(delay);
+                            continue;
+                        }
+                        queue.poll();
+                        if (isLive(head)) {
+                            due = head;
+                            break;
+                        }
+                    }
+                    target = listener;
+                }
+                try {
+                    target.accept(due);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static String describe(Duration timeLeft) {
+        long days = timeLeft.toDays();
+        if (days > 0) return days + (days == 1 ? " day" : " days");
+        long hours = Math.max(1, (timeLeft.toMinutes() + 59) / 60);
+        return hours + (hours == 1 ? " hour" : " hours");
+    }
+}
@@ -0,0 +1,70 @@
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+class RowListModel<T> extends AbstractListModel<T> {
+    private List<T> rows = new ArrayList<>();
+
+    // Rows that match at both ends are left alone, so an edit in the middle only reports the rows it touched.
+    void setRows(List<T> newRows) {
+        List<T> old = rows;
+        rows = new ArrayList<>(newRows);
+        int shorter = Math.min(old.size(), rows.size());
+        int prefix = 0;
+        while (prefix < shorter && Objects.deepEquals(old.get(prefix), rows.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix
+                && Objects.deepEquals(old.get(old.size() - 1 - suffix), rows.get(rows.size() - 1 - suffix))) {
+            suffix++;
+        }
+        int oldEnd = old.size() - suffix;
+        int newEnd = rows.size() - suffix;
+        int common = Math.min(oldEnd, newEnd);
+        int changedFrom = -1;
+        for (int i = prefix; i < common; i++) {
+            boolean changed = !Objects.deepEquals(old.get(i), rows.get(i));
+            if (changed && changedFrom == -1) {
+                changedFrom = i;
+            } else if (!changed && changedFrom != -1) {
+                fireContentsChanged(this, changedFrom, i - 1);
+                changedFrom = -1;
+            }
+        }
+        if (changedFrom != -1) {
+            fireContentsChanged(this, changedFrom, common - 1);
+        }
+        if (newEnd > common) {
+            fireIntervalAdded(this, common, newEnd - 1);
+        } else if (oldEnd > common) {
+            fireIntervalRemoved(this, common, oldEnd - 1);
+        }
+    }
+
+    void insert(int index, T row) {
+        rows.add(index, row);
+        fireIntervalAdded(this, index, index);
+    }
+
+    void set(int index, T row) {
+        rows.set(index, row);
+        fireContentsChanged(this, index, index);
+    }
+
+    void remove(int index) {
+        rows.remove(index);
+        fireIntervalRemoved(this, index, index);
+    }
+
+    @Override
+    public int getSize() {
+        return rows.size();
+    }
+
+    @Override
+    public T getElementAt(int index) {
+        return rows.get(index);
+    }
+}
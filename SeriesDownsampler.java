@@ -0,0 +1,58 @@
+final class SeriesDownsampler {
+    private SeriesDownsampler() {
+    }
+
+    // Largest-Triangle-Three-Buckets. Returns indices into values of the points to keep;
+    // NaN entries are treated as missing and never selected.
+    static int[] lttb(double[] values, int threshold) {
+        int valid = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) valid++;
+        }
+        int[] points = new int[valid];
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i])) points[n++] = i;
+        }
+        if (threshold >= valid || threshold < 3) return points;
+
+        int[] sampled = new int[threshold];
+        int sampledCount = 0;
+        double bucketSize = (double) (valid - 2) / (threshold - 2);
+        int a = 0;
+        sampled[sampledCount++] = points[a];
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, valid);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += points[i];
+                avgY += values[points[i]];
+            }
+            int nextCount = Math.max(1, nextEnd - nextStart);
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double ax = points[a];
+            double ay = values[points[a]];
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((ax - avgX) * (values[points[i]] - ay) - (ax - points[i]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            sampled[sampledCount++] = points[chosen];
+            a = chosen;
+        }
+
+        sampled[sampledCount++] = points[valid - 1];
+        return sampled;
+    }
+}
@@ -1,13 +1,16 @@
 import java.awt.*;
 import java.awt.event.*;
-import java.io.*;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import javax.swing.*;
+import javax.swing.text.BadLocationException;
 
 public class StudentPanel extends JPanel {
-    private ArrayList<Subject> subjects = new ArrayList<>();
+    private List<Subject> subjects = new ArrayList<>();
     private JTextArea displayArea;
-    private final String FILE_NAME = "subjects.csv"; 
+    private final ArrayList<String> displayedLines = new ArrayList<>();
+    private Consumer<Object> subjectSubscription;
 
     public StudentPanel() {
         setLayout(new BorderLayout());
@@ -44,76 +47,74 @@ public class StudentPanel extends JPanel {
             }
         });
 
-        loadFromFile();
+        refreshData();
 
-        Timer timer = new Timer(1000, e -> refreshData());
-        timer.start();
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0) return;
+            if (isShowing()) {
+                subjectSubscription = EventBus.get().subscribe(AppEvents.SubjectEvent.class, event -> applySubjects(event.snapshot));
+                refreshData();
+            } else if (subjectSubscription != null) {
+                EventBus.get().unsubscribe(AppEvents.SubjectEvent.class, subjectSubscription);
+                subjectSubscription = null;
+            }
+        });
     }
 
     void addSub(String subName, int totalClass, int classAttended, int targetedAttendance) {
-        subjects.add(new Subject(subName, totalClass, classAttended, targetedAttendance));
-        updateDisplay();
-        saveToFile(); 
+        SubjectRepository.get().add(new Subject(subName, totalClass, classAttended, targetedAttendance));
     }
 
     void remove(String subName) {
-        boolean removed = subjects.removeIf(subject -> subject.getSubName().equals(subName));
-        if (removed) {
-            updateDisplay();
-            saveToFile(); 
-        } else {
+        boolean removed = SubjectRepository.get().remove(subName);
+        if (!removed) {
             JOptionPane.showMessageDialog(this, "Subject not found.");
         }
     }
 
     private void updateDisplay() {
-        displayArea.setText("");
-        for (Subject subject : subjects) {
-            displayArea.append(subject.toString() + "\n");
+        for (int i = 0; i < subjects.size(); i++) {
+            String line = subjects.get(i).toString();
+            if (i < displayedLines.size()) {
+                if (!line.equals(displayedLines.get(i))) {
+                    replaceLine(i, line);
+                    displayedLines.set(i, line);
+                }
+            } else {
+                displayArea.append(line + "\n");
+                displayedLines.add(line);
+            }
         }
-    }
-
-    private void saveToFile() {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(FILE_NAME))) {
-            for (Subject subject : subjects) {
-                writer.println(subject.getSubName() + "," 
-                        + subject.getTotalClass() + "," 
-                        + subject.getClassAttended() + "," 
-                        + subject.getTargetedAttendance());
+        if (displayedLines.size() > subjects.size()) {
+            try {
+                int start = displayArea.getLineStartOffset(subjects.size());
+                displayArea.replaceRange("", start, displayArea.getDocument().getLength());
+            } catch (BadLocationException e) {
+                e.printStackTrace();
             }
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this, "Error saving data: " + e.getMessage());
+            displayedLines.subList(subjects.size(), displayedLines.size()).clear();
         }
     }
 
-    private void loadFromFile() {
-        try (BufferedReader reader = new BufferedReader(new FileReader(FILE_NAME))) {
-            subjects.clear();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length == 4) {
-                    String subName = parts[0];
-                    int totalClass = Integer.parseInt(parts[1]);
-                    int classAttended = Integer.parseInt(parts[2]);
-                    int targetedAttendance = Integer.parseInt(parts[3]);
-                    subjects.add(new Subject(subName, totalClass, classAttended, targetedAttendance));
-                }
-            }
-            updateDisplay();
-        } catch (FileNotFoundException e) {
-            
-            System.out.println("No data file found. Starting with an empty subject list.");
-        } catch (IOException | NumberFormatException e) {
-            JOptionPane.showMessageDialog(this, "Error loading data: " + e.getMessage());
+    private void replaceLine(int index, String line) {
+        try {
+            int start = displayArea.getLineStartOffset(index);
+            int end = displayArea.getLineEndOffset(index) - 1;
+            displayArea.replaceRange(line, start, end);
+        } catch (BadLocationException e) {
+            e.printStackTrace();
         }
     }
 
-    public void refreshData() {
-        loadFromFile();
+    private void applySubjects(List<Subject> snapshot) {
+        subjects = snapshot;
         updateDisplay();
     }
 
+    public void refreshData() {
+        applySubjects(SubjectRepository.get().snapshot());
+    }
+
     @Override
     public Dimension getPreferredSize() {
         return new Dimension(400, 300);
@@ -124,50 +125,9 @@ public class StudentPanel extends JPanel {
         StudentPanel panel = new StudentPanel();
      
         frame.add(panel, BorderLayout.CENTER);
-  
-        frame.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                panel.saveToFile();
-            }
-        });
 
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.pack();
         frame.setVisible(true);
     }
 }
-
-class Subject {
-    private String subName;
-    private int totalClass;
-    private int classAttended;
-    private int targetedAttendance;
-
-    public Subject(String subName, int totalClass, int classAttended, int targetedAttendance) {
-        this.subName = subName;
-        this.totalClass = totalClass;
-        this.classAttended = classAttended;
-        this.targetedAttendance = targetedAttendance;
-    }
-    
-
-    public String getSubName() { return subName; }
-    public void setSubName(String subName) { this.subName = subName; }
-    public int getTotalClass() { return totalClass; }
-    public void setTotalClass(int totalClass) { this.totalClass = totalClass; }
-    public int getClassAttended() { return classAttended; }
-    public void setClassAttended(int classAttended) { this.classAttended = classAttended; }
-    public int getTargetedAttendance() { return targetedAttendance; }
-    public void setTargetedAttendance(int targetedAttendance) { this.targetedAttendance = targetedAttendance; }
-
-    @Override
-    public String toString() {
-        return "Subject{" +
-                "SubName='" + subName + '\'' +
-                ", TotalClass=" + totalClass +
-                ", ClassAttended=" + classAttended +
-                ", TargetedAttendance=" + targetedAttendance + "%" +
-                '}';
-    }
-}
@@ -0,0 +1,285 @@
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+final class StudyPlanner {
+    static final String STUDY = "Study";
+    static final int MAX_SLOTS_PER_SUBJECT_PER_DAY = 2;
+
+    private static final int RESTARTS_PER_WEEK = 4;
+    private static final double DEFAULT_ENERGY = 0.5;
+
+    private final String[] subjectNames;
+    private final long[][] examDays;
+    private final int[][] examPriorities;
+    private final double[] difficulty;
+    private final double[] energyByDay = new double[7];
+    private final double meanEnergy;
+
+    // energyLevels is indexed Monday first and holds the 1-10 energy level, NaN where unknown.
+    StudyPlanner(Collection<Exam> exams, Collection<Subject> subjects, double[] energyLevels) {
+        Map<String, List<Exam>> bySubject = new HashMap<>();
+        for (Exam exam : exams) {
+            bySubject.computeIfAbsent(exam.getSubject().trim(), name -> new ArrayList<>()).add(exam);
+        }
+        Map<String, Subject> subjectsByName = new HashMap<>();
+        for (Subject subject : subjects) {
+            subjectsByName.put(subject.getSubName().trim(), subject);
+        }
+
+        subjectNames = bySubject.keySet().toArray(new String[0]);
+        examDays = new long[subjectNames.length][];
+        examPriorities = new int[subjectNames.length][];
+        difficulty = new double[subjectNames.length];
+        for (int s = 0; s < subjectNames.length; s++) {
+            List<Exam> subjectExams = bySubject.get(subjectNames[s]);
+            examDays[s] = new long[subjectExams.size()];
+            examPriorities[s] = new int[subjectExams.size()];
+            int maxPriority = 0;
+            for (int i = 0; i < subjectExams.size(); i++) {
+                examDays[s][i] = subjectExams.get(i).getEpochDay();
+                examPriorities[s][i] = subjectExams.get(i).getPriority();
+                maxPriority = Math.max(maxPriority, examPriorities[s][i]);
+            }
+            difficulty[s] = Math.min(1.0, maxPriority / 10.0);
+            Subject subject = subjectsByName.get(subjectNames[s]);
+            if (subject != null && subject.calculateClassesNeeded() > 0) {
+                difficulty[s] = Math.min(1.0, difficulty[s] + 0.2);
+            }
+        }
+
+        double sum = 0;
+        int known = 0;
+        for (int day = 0; day < energyByDay.length; day++) {
+            double level = energyLevels != null && day < energyLevels.length ? energyLevels[day] : Double.NaN;
+            energyByDay[day] = Double.isNaN(level) ? Double.NaN : Math.max(0, Math.min(1, level / 10.0));
+            if (!Double.isNaN(energyByDay[day])) {
+                sum += energyByDay[day];
+                known++;
+            }
+        }
+        meanEnergy = known == 0 ? DEFAULT_ENERGY : sum / known;
+        for (int day = 0; day < energyByDay.length; day++) {
+            if (Double.isNaN(energyByDay[day])) energyByDay[day] = meanEnergy;
+        }
+    }
+
+    // template is [period][day] with days starting Monday; empty and "Study" cells are filled,
+    // everything else (classes, Play, Rest) is kept as is. Weeks run Monday to Sunday from the week
+    // containing start, and days before start keep their template cells.
+    List<String[][]> plan(LocalDate start, int weeks, String[][] template, long budgetMillis) {
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        return ForkJoinPool.commonPool().invoke(new WeeksTask(start, 0, weeks, template, deadline));
+    }
+
+    private static boolean isOpenSlot(String cell) {
+        return cell == null || cell.trim().isEmpty() || cell.trim().regionMatches(true, 0, STUDY, 0, STUDY.length());
+    }
+
+    private double urgency(int subject, long day) {
+        double urgency = 0;
+        for (int i = 0; i < examDays[subject].length; i++) {
+            long daysLeft = examDays[subject][i] - day;
+            if (daysLeft > 0) {
+                urgency += examPriorities[subject][i] / (double) daysLeft;
+            }
+        }
+        return urgency;
+    }
+
+    private class WeeksTask extends RecursiveTask<List<String[][]>> {
+        private final LocalDate start;
+        private final int from;
+        private final int to;
+        private final String[][] template;
+        private final long deadline;
+
+        WeeksTask(LocalDate start, int from, int to, String[][] template, long deadline) {
+            this.start = start;
+            this.from = from;
+            this.to = to;
+            this.template = template;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected List<String[][]> compute() {
+            if (to - from <= 1) {
+                List<String[][]> result = new ArrayList<>(1);
+                if (from < to) {
+                    LocalDate monday = start.with(DayOfWeek.MONDAY).plusWeeks(from);
+                    result.add(new WeekPlan(monday, start, template, deadline).solve());
+                }
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            WeeksTask left = new WeeksTask(start, from, mid, template, deadline);
+            WeeksTask right = new WeeksTask(start, mid, to, template, deadline);
+            left.fork();
+            List<String[][]> rightWeeks = right.compute();
+            List<String[][]> weeks = left.join();
+            weeks.addAll(rightWeeks);
+            return weeks;
+        }
+    }
+
+    private class WeekPlan {
+        private final String[][] template;
+        private final long deadline;
+        private final int[] slotPeriods;
+        private final int[] slotDays;
+        // value[slot][subject] is urgency weighted by how well the day's energy suits the subject; 0 when not allowed.
+        private final double[][] value;
+
+        WeekPlan(LocalDate monday, LocalDate start, String[][] template, long deadline) {
+            this.template = template;
+            this.deadline = deadline;
+            List<int[]> slots = new ArrayList<>();
+            int firstDay = (int) Math.max(0, start.toEpochDay() - monday.toEpochDay());
+            for (int period = 0; period < template.length; period++) {
+                for (int day = firstDay; day < template[period].length && day < 7; day++) {
+                    if (isOpenSlot(template[period][day])) slots.add(new int[]{period, day});
+                }
+            }
+            slotPeriods = new int[slots.size()];
+            slotDays = new int[slots.size()];
+            value = new double[slots.size()][subjectNames.length];
+            for (int i = 0; i < slots.size(); i++) {
+                slotPeriods[i] = slots.get(i)[0];
+                slotDays[i] = slots.get(i)[1];
+                long epochDay = monday.plusDays(slotDays[i]).toEpochDay();
+                double energyOffset = energyByDay[slotDays[i]] - meanEnergy;
+                for (int s = 0; s < subjectNames.length; s++) {
+                    double fit = Math.max(0.1, 1 + 2 * difficulty[s] * energyOffset);
+                    value[i][s] = urgency(s, epochDay) * fit;
+                }
+            }
+        }
+
+        String[][] solve() {
+            int[] best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            if (slotDays.length > 0 && subjectNames.length > 0) {
+                List<Search> searches = new ArrayList<>(RESTARTS_PER_WEEK);
+                for (int seed = 0; seed < RESTARTS_PER_WEEK; seed++) {
+                    searches.add(new Search(seed));
+                }
+                for (Search search : RecursiveTask.invokeAll(searches)) {
+                    int[] assignment = search.join();
+                    double score = score(assignment);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = assignment;
+                    }
+                }
+            }
+
+            String[][] cells = new String[template.length][];
+            for (int period = 0; period < template.length; period++) {
+                cells[period] = template[period].clone();
+            }
+            for (int i = 0; i < slotDays.length; i++) {
+                int subject = best == null ? -1 : best[i];
+                cells[slotPeriods[i]][slotDays[i]] = subject < 0 ? STUDY : STUDY + " " + subjectNames[subject];
+            }
+            return cells;
+        }
+
+        // Concave in each subject's total, so time is spread across subjects roughly by urgency.
+        private double score(int[] assignment) {
+            double[] totals = new double[subjectNames.length];
+            for (int i = 0; i < assignment.length; i++) {
+                if (assignment[i] >= 0) totals[assignment[i]] += value[i][assignment[i]];
+            }
+            double score = 0;
+            for (double total : totals) {
+                score += Math.log1p(total);
+            }
+            return score;
+        }
+
+        private boolean allowed(int[] assignment, int slot, int subject) {
+            if (value[slot][subject] <= 0) return false;
+            int sameDay = 0;
+            for (int i = 0; i < assignment.length; i++) {
+                if (i != slot && slotDays[i] == slotDays[slot] && assignment[i] == subject) sameDay++;
+            }
+            return sameDay < MAX_SLOTS_PER_SUBJECT_PER_DAY;
+        }
+
+        private class Search extends RecursiveTask<int[]> {
+            private final int seed;
+
+            Search(int seed) {
+                this.seed = seed;
+            }
+
+            @Override
+            protected int[] compute() {
+                SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + slotDays.length);
+                int[] assignment = new int[slotDays.length];
+                Arrays.fill(assignment, -1);
+                double[] totals = new double[subjectNames.length];
+
+                // Greedy construction in a seed-dependent slot order.
+                int[] order = new int[slotDays.length];
+                for (int i = 0; i < order.length; i++) order[i] = i;
+                for (int i = order.length - 1; seed > 0 && i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                }
+                for (int slot : order) {
+                    int bestSubject = -1;
+                    double bestGain = 0;
+                    for (int s = 0; s < subjectNames.length; s++) {
+                        if (!allowed(assignment, slot, s)) continue;
+                        double gain = Math.log1p(totals[s] + value[slot][s]) - Math.log1p(totals[s]);
+                        if (gain > bestGain) {
+                            bestGain = gain;
+                            bestSubject = s;
+                        }
+                    }
+                    assign(assignment, totals, slot, bestSubject);
+                }
+
+                // Hill climbing with single-slot reassignments until no move helps or time runs out.
+                boolean improved = true;
+                while (improved && System.nanoTime() < deadline) {
+                    improved = false;
+                    for (int slot = 0; slot < assignment.length; slot++) {
+                        int current = assignment[slot];
+                        for (int s = 0; s < subjectNames.length; s++) {
+                            if (s == current || !allowed(assignment, slot, s)) continue;
+                            double delta = Math.log1p(totals[s] + value[slot][s]) - Math.log1p(totals[s]);
+                            if (current >= 0) {
+                                delta += Math.log1p(totals[current] - value[slot][current]) - Math.log1p(totals[current]);
+                            }
+                            if (delta > 1e-12) {
+                                assign(assignment, totals, slot, s);
+                                current = s;
+                                improved = true;
+                            }
+                        }
+                    }
+                }
+                return assignment;
+            }
+
+            private void assign(int[] assignment, double[] totals, int slot, int subject) {
+                if (assignment[slot] >= 0) totals[assignment[slot]] -= value[slot][assignment[slot]];
+                assignment[slot] = subject;
+                if (subject >= 0) totals[subject] += value[slot][subject];
+            }
+        }
+    }
+}
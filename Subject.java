@@ -0,0 +1,61 @@
+import java.util.Objects;
+
+final class Subject {
+    private final String subName;
+    private final int totalClass;
+    private final int classAttended;
+    private final int targetedAttendance;
+
+    public Subject(String subName, int totalClass, int classAttended, int targetedAttendance) {
+        this.subName = subName;
+        this.totalClass = totalClass;
+        this.classAttended = classAttended;
+        this.targetedAttendance = targetedAttendance;
+    }
+
+    public String getSubName() { return subName; }
+    public int getTotalClass() { return totalClass; }
+    public int getClassAttended() { return classAttended; }
+    public int getTargetedAttendance() { return targetedAttendance; }
+
+    public Subject withClassAttended(int classAttended) {
+        return new Subject(subName, totalClass, Math.max(0, classAttended), targetedAttendance);
+    }
+
+    public float calculateAttendancePercentage() {
+        return ((float) classAttended / totalClass) * 100;
+    }
+
+    public int calculateClassesNeeded() {
+        float requiredAttendance = (targetedAttendance / 100f) * totalClass;
+        return (int) Math.ceil(requiredAttendance) - classAttended;
+    }
+
+    String[] toRow() {
+        return new String[]{subName, String.valueOf(totalClass), String.valueOf(classAttended), String.valueOf(targetedAttendance)};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Subject)) return false;
+        Subject other = (Subject) o;
+        return totalClass == other.totalClass && classAttended == other.classAttended
+                && targetedAttendance == other.targetedAttendance && subName.equals(other.subName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subName, totalClass, classAttended, targetedAttendance);
+    }
+
+    @Override
+    public String toString() {
+        return "Subject{" +
+                "SubName='" + subName + '\'' +
+                ", TotalClass=" + totalClass +
+                ", ClassAttended=" + classAttended +
+                ", TargetedAttendance=" + targetedAttendance + "%" +
+                '}';
+    }
+}
@@ -0,0 +1,145 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class SubjectRepository {
+    static final String SUBJECTS_FILE = "subjects.csv";
+    static final String JOURNAL_FILE = "attendance.journal";
+
+    private static final SubjectRepository INSTANCE = new SubjectRepository();
+
+    private final AttendanceJournal journal = new AttendanceJournal(SUBJECTS_FILE, JOURNAL_FILE, AttendanceHistory.FILE,
+            this::snapshotLines, this::historyLines);
+    private volatile AttendanceHistory history = new AttendanceHistory();
+    private volatile List<Subject> subjects;
+
+    private SubjectRepository() {
+        subjects = Collections.unmodifiableList(journal.load(history));
+        // Edits from other processes (or by hand) to either file are read back; our own writes load
+        // to the same list and publish nothing.
+        DataStore.get().addListener(SUBJECTS_FILE, (fileName, rows) -> reloadFromDisk());
+        DataStore.get().addListener(JOURNAL_FILE, (fileName, rows) -> reloadFromDisk());
+    }
+
+    static SubjectRepository get() {
+        return INSTANCE;
+    }
+
+    List<Subject> snapshot() {
+        return subjects;
+    }
+
+    AttendanceHistory history() {
+        return history;
+    }
+
+    Subject find(String subName) {
+        for (Subject subject : subjects) {
+            if (subject.getSubName().equals(subName)) {
+                return subject;
+            }
+        }
+        return null;
+    }
+
+    void add(Subject subject) {
+        synchronized (journal) {
+            List<Subject> updated = new ArrayList<>(subjects);
+            updated.add(subject);
+            EventBus.get().publish(new AppEvents.SubjectAdded(subject, publish(updated)));
+            journal.requestCompaction();
+        }
+    }
+
+    boolean remove(String subName) {
+        synchronized (journal) {
+            List<Subject> updated = new ArrayList<>(subjects);
+            if (!updated.removeIf(subject -> subject.getSubName().equals(subName))) return false;
+            EventBus.get().publish(new AppEvents.SubjectRemoved(subName, publish(updated)));
+            history.remove(subName);
+            journal.requestCompaction();
+            return true;
+        }
+    }
+
+    // Each mark records one class attended today. Unmarking only undoes marks made today, so the
+    // counter can no longer be decremented past what the history shows; it returns null otherwise.
+    Subject markAttendance(String subName, int delta) {
+        synchronized (journal) {
+            LocalDate today = LocalDate.now();
+            if (find(subName) == null) return null;
+            if (delta < 0 && history.attendedOn(subName, today) < -delta) return null;
+            for (int i = 0; i < Math.abs(delta); i++) {
+                if (delta < 0) {
+                    history.unmark(subName, today);
+                } else {
+                    history.markAttended(subName, today);
+                }
+            }
+            return changeAttended(subName, delta);
+        }
+    }
+
+    // Records today as a missed class; marks made earlier today are taken back. The journal gets a
+    // -1 record per mark taken back, then the absent record.
+    Subject markAbsent(String subName) {
+        synchronized (journal) {
+            LocalDate today = LocalDate.now();
+            Subject subject = find(subName);
+            if (subject == null) return null;
+            int wasAttended = history.markAbsent(subName, today);
+            Subject marked = wasAttended > 0 ? changeAttended(subName, -wasAttended) : subject;
+            journal.append(subName, 0);
+            return marked;
+        }
+    }
+
+    private Subject changeAttended(String subName, int delta) {
+        List<Subject> updated = new ArrayList<>(subjects);
+        for (int i = 0; i < updated.size(); i++) {
+            Subject subject = updated.get(i);
+            if (subject.getSubName().equals(subName)) {
+                Subject marked = subject.withClassAttended(subject.getClassAttended() + delta);
+                updated.set(i, marked);
+                // Replay applies each record as a single class, so a larger change is written as several.
+                for (int n = 0; n < Math.abs(delta); n++) {
+                    journal.append(subName, Integer.signum(delta));
+                }
+                EventBus.get().publish(new AppEvents.AttendanceChanged(marked, publish(updated)));
+                return marked;
+            }
+        }
+        return null;
+    }
+
+    private void reloadFromDisk() {
+        synchronized (journal) {
+            // The compaction that clears this rewrites subjects.csv, which brings us back here.
+            if (journal.isSnapshotPending()) return;
+            AttendanceHistory loadedHistory = new AttendanceHistory();
+            List<Subject> loaded = journal.load(loadedHistory);
+            history = loadedHistory;
+            if (!loaded.equals(subjects)) {
+                EventBus.get().publish(new AppEvents.SubjectsReloaded(publish(loaded)));
+            }
+        }
+    }
+
+    private List<Subject> publish(List<Subject> updated) {
+        subjects = Collections.unmodifiableList(updated);
+        return subjects;
+    }
+
+    private List<String> historyLines() {
+        return history.toLines();
+    }
+
+    private List<String> snapshotLines() {
+        List<String> lines = new ArrayList<>();
+        for (Subject subject : subjects) {
+            lines.add(CsvCodec.formatRow(subject.toRow()));
+        }
+        return lines;
+    }
+}
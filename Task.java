@@ -1,6 +1,7 @@
 class Task {
     private String description;
     private boolean isComplete;
+    private Goal goal;
 
     public Task(String description) {
         this.description = description;
@@ -9,7 +10,15 @@ class Task {
 
     
     public void markComplete(boolean complete) {
+        if (this.isComplete == complete) return;
         this.isComplete = complete;
+        if (goal != null) {
+            goal.taskCompletionChanged(complete);
+        }
+    }
+
+    void attachTo(Goal goal) {
+        this.goal = goal;
     }
 
 
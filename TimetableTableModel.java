@@ -0,0 +1,70 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+
+class TimetableTableModel extends AbstractTableModel {
+    private final String[] days;
+    private final String[][] cells;
+
+    TimetableTableModel(int periods, String[] days) {
+        this.days = days.clone();
+        this.cells = new String[periods][days.length];
+    }
+
+    int getPeriodCount() {
+        return cells.length;
+    }
+
+    int getDayCount() {
+        return days.length;
+    }
+
+    String getCell(int period, int day) {
+        return cells[period][day];
+    }
+
+    void setCells(String[][] values) {
+        for (int period = 0; period < cells.length; period++) {
+            Arrays.fill(cells[period], null);
+            if (period < values.length) {
+                for (int day = 0; day < days.length && day < values[period].length; day++) {
+                    cells[period][day] = values[period][day];
+                }
+            }
+        }
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return cells.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return days.length + 1;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return column == 0 ? "" : days[column - 1];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return column > 0;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return column == 0 ? "Period " + (row + 1) : cells[row][column - 1];
+    }
+
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        if (column == 0) return;
+        String text = (String) value;
+        if (text == null ? cells[row][column - 1] == null : text.equals(cells[row][column - 1])) return;
+        cells[row][column - 1] = text;
+        fireTableCellUpdated(row, column);
+    }
+}
@@ -0,0 +1,21 @@
+// Runs every test; see README.md for how to compile them.
+class AllTests {
+    public static void main(String[] args) throws Exception {
+        DataStoreTest.run();
+        AttendanceJournalTest.run();
+        CsvCodecTest.run();
+        CsvBulkLoaderTest.run();
+        GoalManagerTest.run();
+        GoalTest.run();
+        RowListModelTest.run();
+        ExamIndexTest.run();
+        StudyPlannerTest.run();
+        DeadlineSchedulerTest.run();
+        ReminderEngineTest.run();
+        HealthSeriesTest.run();
+        InsightsEngineTest.run();
+        DayBitmapTest.run();
+        AttendanceHistoryTest.run();
+        Check.done();
+    }
+}
@@ -0,0 +1,86 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+class AttendanceHistoryTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    public static void main(String[] args) throws IOException {
+        run();
+        Check.done();
+    }
+
+    static void run() throws IOException {
+        unmarkReversesOneMark();
+        absentDropsTheDaysMarks();
+        countsClassesNotDays();
+        savesAndLoads();
+    }
+
+    private static void unmarkReversesOneMark() {
+        AttendanceHistory history = new AttendanceHistory();
+        history.markAttended("Maths", DAY);
+        history.markAttended("Maths", DAY);
+        Check.equal(2, history.attendedOn("Maths", DAY), "two marks on one day");
+        history.unmark("Maths", DAY);
+        Check.equal(1, history.attendedOn("Maths", DAY), "one mark left after an unmark");
+        Check.equal(1, history.heldBetween("Maths", DAY, DAY), "the day is still held");
+        history.unmark("Maths", DAY);
+        Check.equal(0, history.attendedOn("Maths", DAY), "no marks left");
+        Check.equal(0, history.heldBetween("Maths", DAY, DAY), "the day is forgotten");
+    }
+
+    private static void absentDropsTheDaysMarks() {
+        AttendanceHistory history = new AttendanceHistory();
+        history.markAttended("Maths", DAY);
+        history.markAttended("Maths", DAY);
+        Check.equal(2, history.markAbsent("Maths", DAY), "absent reports the marks it drops");
+        Check.equal(0, history.attendedOn("Maths", DAY), "absent clears the day");
+        Check.equal(1, history.heldBetween("Maths", DAY, DAY), "an absent day is held");
+        Check.equal(0, history.markAbsent("Maths", DAY.plusDays(1)), "absent on an unmarked day");
+        Check.equal(2, history.longestAbsenceStreak("Maths"), "absence streak");
+    }
+
+    private static void countsClassesNotDays() {
+        AttendanceHistory history = new AttendanceHistory();
+        history.markAttended("Maths", DAY);
+        history.markAttended("Maths", DAY);
+        history.markAttended("Maths", DAY.plusDays(1));
+        history.markAbsent("Maths", DAY.plusDays(2));
+        Check.equal(3, history.attendedBetween("Maths", DAY, DAY.plusDays(6)), "attended classes");
+        Check.equal(4, history.heldBetween("Maths", DAY, DAY.plusDays(6)), "held classes");
+        Check.near(75, history.percentageForMonth("Maths", DAY), "monthly percentage");
+        Check.near(Double.NaN, history.percentageForMonth("Maths", DAY.plusMonths(1)), "month without classes");
+    }
+
+    private static void savesAndLoads() throws IOException {
+        AttendanceHistory history = new AttendanceHistory();
+        history.markAttended("Maths, Applied", DAY);
+        history.markAttended("Maths, Applied", DAY);
+        history.markAttended("Maths, Applied", DAY);
+        history.markAbsent("Maths, Applied", DAY.plusDays(1));
+        Path file = Files.createTempFile("attendance_history", ".csv");
+        try {
+            Files.write(file, history.toLines());
+            AttendanceHistory loaded = new AttendanceHistory();
+            Check.equal(0L, loaded.read(file), "rows without a timestamp");
+            Check.equal(3, loaded.attendedOn("Maths, Applied", DAY), "marks survive a reload");
+            Check.equal(4, loaded.heldBetween("Maths, Applied", DAY, DAY.plusDays(1)), "held classes survive a reload");
+
+            String oneDay = DAY.toEpochDay() + ":AQ";
+            Files.write(file, List.of(CsvCodec.formatRow("Physics", oneDay, oneDay)));
+            loaded = new AttendanceHistory();
+            loaded.read(file);
+            Check.equal(1, loaded.attendedOn("Physics", DAY), "three-field rows still load");
+
+            Files.write(file, List.of(CsvCodec.formatRow("Physics", oneDay, oneDay, "", "1234")));
+            loaded = new AttendanceHistory();
+            Check.equal(1234L, loaded.read(file), "the journal timestamp is read back");
+            Check.equal(1, loaded.attendedOn("Physics", DAY), "rows with a timestamp load");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
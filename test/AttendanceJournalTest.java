@@ -0,0 +1,142 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+class AttendanceJournalTest {
+    public static void main(String[] args) throws IOException {
+        run();
+        Check.done();
+    }
+
+    static void run() throws IOException {
+        Path dir = Files.createTempDirectory("journal");
+        try {
+            replaysOnTopOfTheSnapshot(dir);
+            skipsRecordsTheSnapshotIncludes(dir);
+            survivesACrashBeforeTheJournalIsDropped(dir);
+            replaysHistoryFromTheSameRecords(dir);
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    private static void replaysOnTopOfTheSnapshot(Path dir) throws IOException {
+        Path snapshot = dir.resolve("a.csv");
+        Path journal = dir.resolve("a.journal");
+        Files.write(snapshot, List.of("Maths,40,10,75", "Physics,30,0,75", "short,row"));
+        Files.write(journal, List.of("1,Maths,1", "2,Maths,1", "3,Maths,-1", "4,Physics,-1", "5,Physics,1",
+                "6,Chemistry,1", "broken"));
+        List<Subject> subjects = AttendanceJournal.read(snapshot, journal);
+        Check.equal(2, subjects.size(), "only full snapshot rows are loaded");
+        Check.equal(11, subjects.get(0).getClassAttended(), "records are replayed in order");
+        Check.equal(1, subjects.get(1).getClassAttended(), "the count never drops below zero");
+        Check.equal(10, AttendanceJournal.read(snapshot, dir.resolve("none")).get(0).getClassAttended(), "no journal");
+    }
+
+    private static void skipsRecordsTheSnapshotIncludes(Path dir) throws IOException {
+        Path snapshot = dir.resolve("b.csv");
+        Path journal = dir.resolve("b.journal");
+        Files.write(snapshot, List.of("Maths,40,10,75,1000", "Physics,30,5,75"));
+        Files.write(journal, List.of("900,Maths,1", "1000,Maths,1", "1001,Maths,1", "900,Physics,1"));
+        List<Subject> subjects = AttendanceJournal.read(snapshot, journal);
+        Check.equal(11, subjects.get(0).getClassAttended(), "records up to the snapshot's timestamp are skipped");
+        Check.equal(6, subjects.get(1).getClassAttended(), "a row without a timestamp takes every record");
+    }
+
+    private static void survivesACrashBeforeTheJournalIsDropped(Path dir) throws IOException {
+        Path snapshot = dir.resolve("c.csv");
+        Path journal = dir.resolve("c.journal");
+        Files.write(snapshot, List.of("Maths,40,10,75"));
+        List<Subject> state = new ArrayList<>();
+        AttendanceJournal owner = new AttendanceJournal(snapshot.toString(), journal.toString(),
+                dir.resolve("c_history.csv").toString(), () -> {
+            List<String> lines = new ArrayList<>();
+            for (Subject subject : state) {
+                lines.add(CsvCodec.formatRow(subject.toRow()));
+            }
+            return lines;
+        }, () -> List.of());
+        state.addAll(owner.load(new AttendanceHistory()));
+        for (int i = 0; i < 3; i++) {
+            owner.append("Maths", 1);
+        }
+        state.set(0, state.get(0).withClassAttended(13));
+        List<String> records = Files.readAllLines(journal);
+        Check.equal(3, records.size(), "one record per mark");
+        Check.isTrue(records.get(0).split(",")[0].compareTo(records.get(1).split(",")[0]) < 0
+                && records.get(1).split(",")[0].compareTo(records.get(2).split(",")[0]) < 0, "timestamps increase");
+
+        owner.compact();
+        Check.isTrue(!Files.exists(journal), "compaction drops the journal");
+        Check.equal(13, AttendanceJournal.read(snapshot, journal).get(0).getClassAttended(), "the snapshot holds the marks");
+
+        // As if the process died after writing the snapshot but before deleting the journal.
+        Files.write(journal, records);
+        Check.equal(13, AttendanceJournal.read(snapshot, journal).get(0).getClassAttended(), "leftover records are not counted twice");
+
+        AttendanceJournal restarted = new AttendanceJournal(snapshot.toString(), journal.toString(),
+                dir.resolve("c_history.csv").toString(), () -> List.of(), () -> List.of());
+        Check.equal(13, restarted.load(new AttendanceHistory()).get(0).getClassAttended(), "a restart loads the same count");
+        restarted.append("Maths", 1);
+        Check.equal(14, AttendanceJournal.read(snapshot, journal).get(0).getClassAttended(), "a new mark after the restart counts");
+        // Leaves nothing for the shutdown hook to flush once the directory is gone.
+        restarted.compact();
+    }
+
+    private static void replaysHistoryFromTheSameRecords(Path dir) throws IOException {
+        Path snapshot = dir.resolve("d.csv");
+        Path journal = dir.resolve("d.journal");
+        Path historyFile = dir.resolve("d_history.csv");
+        Files.write(snapshot, List.of("Maths,40,10,75"));
+        LocalDate today = LocalDate.now();
+        AttendanceHistory history = new AttendanceHistory();
+        List<Subject> state = new ArrayList<>();
+        AttendanceJournal owner = new AttendanceJournal(snapshot.toString(), journal.toString(), historyFile.toString(),
+                () -> List.of(CsvCodec.formatRow(state.get(0).toRow())), history::toLines);
+        state.addAll(owner.load(history));
+        owner.append("Maths", 1);
+        owner.append("Maths", 1);
+        history.markAttended("Maths", today);
+        history.markAttended("Maths", today);
+        state.set(0, state.get(0).withClassAttended(12));
+
+        AttendanceHistory replayed = new AttendanceHistory();
+        List<Subject> loaded = owner.load(replayed);
+        Check.equal(2, replayed.attendedOn("Maths", today), "marks reach the history through the journal");
+        Check.equal(12, loaded.get(0).getClassAttended(), "and the count");
+
+        owner.compact();
+        Check.isTrue(Files.exists(historyFile), "compaction writes the history");
+        List<String> compacted = Files.readAllLines(historyFile);
+
+        // Taking back both marks and marking the day absent, as SubjectRepository.markAbsent writes it.
+        owner.append("Maths", -1);
+        owner.append("Maths", -1);
+        owner.append("Maths", 0);
+        history.markAbsent("Maths", today);
+        state.set(0, state.get(0).withClassAttended(10));
+        replayed = new AttendanceHistory();
+        loaded = owner.load(replayed);
+        Check.equal(0, replayed.attendedOn("Maths", today), "an absent record clears the day");
+        Check.equal(1, replayed.heldBetween("Maths", today, today), "and keeps it as held");
+        Check.equal(10, loaded.get(0).getClassAttended(), "an absent record leaves the count to the -1 records");
+
+        List<String> records = Files.readAllLines(journal);
+        owner.compact();
+        Files.write(journal, records);
+        replayed = new AttendanceHistory();
+        owner.load(replayed);
+        Check.equal(1, replayed.heldBetween("Maths", today, today), "leftover records are not replayed twice");
+        Check.isTrue(!compacted.equals(Files.readAllLines(historyFile)), "the next compaction rewrites the history");
+        Files.delete(journal);
+    }
+}
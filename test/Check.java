@@ -0,0 +1,44 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+// Minimal assertions for the plain-Java tests; failures are counted and reported by AllTests.
+final class Check {
+    private static int checks;
+    private static int failures;
+
+    private Check() {
+    }
+
+    static void equal(Object expected, Object actual, String what) {
+        checks++;
+        boolean same = expected instanceof Object[] && actual instanceof Object[]
+                ? Arrays.deepEquals((Object[]) expected, (Object[]) actual) : Objects.equals(expected, actual);
+        if (!same) fail(what + ": expected " + show(expected) + " but was " + show(actual));
+    }
+
+    static void near(double expected, double actual, String what) {
+        checks++;
+        boolean same = Double.isNaN(expected) ? Double.isNaN(actual) : Math.abs(expected - actual) <= 1e-6 * Math.max(1, Math.abs(expected));
+        if (!same) fail(what + ": expected " + expected + " but was " + actual);
+    }
+
+    static void isTrue(boolean condition, String what) {
+        checks++;
+        if (!condition) fail(what);
+    }
+
+    // Prints the totals and exits non-zero if anything failed.
+    static void done() {
+        System.out.println(checks + " checks, " + failures + " failed");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static void fail(String message) {
+        failures++;
+        System.err.println("FAIL " + message);
+    }
+
+    private static String show(Object value) {
+        return value instanceof Object[] ? Arrays.deepToString((Object[]) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,81 @@
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class CsvBulkLoaderTest {
+    public static void main(String[] args) throws IOException {
+        run();
+        Check.done();
+    }
+
+    static void run() throws IOException {
+        String text = sample(2000);
+        chunksSplitOnlyBetweenRecords(text);
+        parallelLoadMatchesSequentialRead(text);
+    }
+
+    // Goal rows whose names sometimes hold commas, doubled quotes and line breaks inside quotes.
+    private static String sample(int rows) {
+        Random random = new Random(3);
+        String[] names = {"Read", "Essay, part %d", "Say \"hi\" %d", "Two\nlines %d", "Three\r\nline\nname %d"};
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            String name = String.format(names[random.nextInt(names.length)], i);
+            text.append(CsvCodec.formatRow(name, String.valueOf(i), "2026-05-01", "0", "In Progress")).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static void chunksSplitOnlyBetweenRecords(String text) throws IOException {
+        List<String[]> whole = parse(text);
+        for (int chunks : new int[]{1, 2, 7, 64, 5000}) {
+            int[] bounds = CsvBulkLoader.chunkBounds(text, chunks);
+            Check.equal(0, bounds[0], chunks + " chunks start at 0");
+            Check.equal(text.length(), bounds[bounds.length - 1], chunks + " chunks end at the end");
+            List<String[]> joined = new ArrayList<>();
+            boolean increasing = true;
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                increasing &= bounds[i] < bounds[i + 1];
+                joined.addAll(parse(text.substring(bounds[i], bounds[i + 1])));
+            }
+            Check.isTrue(increasing, chunks + " chunks are non-empty");
+            Check.equal(whole.size(), joined.size(), chunks + " chunks hold every record");
+            Check.equal(whole.toArray(), joined.toArray(), chunks + " chunks parse like the whole text");
+        }
+        Check.equal(2, CsvBulkLoader.chunkBounds("", 4).length, "empty text is one empty chunk");
+        Check.equal(2, CsvBulkLoader.chunkBounds("\"a\nb\nc\nd\"\n", 4).length, "no split inside one quoted field");
+    }
+
+    private static void parallelLoadMatchesSequentialRead(String text) throws IOException {
+        StringBuilder big = new StringBuilder(text);
+        while (big.length() < CsvBulkLoader.PARALLEL_THRESHOLD_BYTES + 1) {
+            big.append(text);
+        }
+        Path file = Files.createTempFile("bulk", ".csv");
+        try {
+            Files.write(file, big.toString().getBytes(CsvCodec.CHARSET));
+            List<String[]> loaded = CsvBulkLoader.load(file, CsvCodec.Cursor::toArray);
+            List<String[]> expected = CsvCodec.readAll(file);
+            Check.equal(expected.size(), loaded.size(), "parallel load row count");
+            Check.equal(expected.toArray(), loaded.toArray(), "parallel load keeps rows in order");
+            List<String> names = CsvBulkLoader.load(file, cursor -> cursor.field(0).startsWith("Read") ? null : cursor.field(0));
+            Check.isTrue(names.size() < loaded.size() && !names.contains(null), "rows mapped to null are dropped");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<String[]> parse(String text) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (CsvCodec.Cursor cursor = CsvCodec.over(new StringReader(text))) {
+            while (cursor.next()) {
+                rows.add(cursor.toArray());
+            }
+        }
+        return rows;
+    }
+}
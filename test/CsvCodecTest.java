@@ -0,0 +1,78 @@
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+class CsvCodecTest {
+    public static void main(String[] args) throws IOException {
+        run();
+        Check.done();
+    }
+
+    static void run() throws IOException {
+        formatQuotesOnlyWhenNeeded();
+        parsesQuotedFields();
+        handlesLineEndings();
+        roundTrips();
+        parsesIntFields();
+    }
+
+    private static void formatQuotesOnlyWhenNeeded() {
+        Check.equal("a,b,c", CsvCodec.formatRow("a", "b", "c"), "plain fields");
+        Check.equal("\"a,b\",c", CsvCodec.formatRow("a,b", "c"), "comma is quoted");
+        Check.equal("\"say \"\"hi\"\"\"", CsvCodec.formatRow("say \"hi\""), "quotes are doubled");
+        Check.equal("\"two\nlines\",x", CsvCodec.formatRow("two\nlines", "x"), "newline is quoted");
+        Check.equal(",,", CsvCodec.formatRow(null, "", null), "null and empty fields");
+    }
+
+    private static void parsesQuotedFields() throws IOException {
+        List<String[]> rows = parse("\"a,b\",\"say \"\"hi\"\"\",\"\"\n\"multi\r\nline\",z\n");
+        Check.equal(2, rows.size(), "row count");
+        Check.equal(new String[]{"a,b", "say \"hi\"", ""}, rows.get(0), "comma, escaped quote, empty quoted");
+        Check.equal(new String[]{"multi\r\nline", "z"}, rows.get(1), "line break inside quotes");
+    }
+
+    private static void handlesLineEndings() throws IOException {
+        Check.equal(3, parse("a\r\nb\rc\n").size(), "CRLF, CR and LF each end a row");
+        List<String[]> rows = parse("a,\nb");
+        Check.equal(new String[]{"a", ""}, rows.get(0), "trailing empty field");
+        Check.equal(new String[]{"b"}, rows.get(1), "last row without a newline");
+        Check.equal(0, parse("").size(), "empty input");
+    }
+
+    private static void roundTrips() throws IOException {
+        String[] fields = {"plain", "with,comma", "with \"quotes\"", "", "line\nbreak", " spaced "};
+        List<String[]> rows = parse(CsvCodec.formatRow(fields) + "\n");
+        Check.equal(1, rows.size(), "round trip row count");
+        Check.equal(fields, rows.get(0), "round trip fields");
+    }
+
+    private static void parsesIntFields() throws IOException {
+        try (CsvCodec.Cursor cursor = CsvCodec.over(new StringReader(" 42 ,-7,+3,2147483648,x,,true"))) {
+            cursor.next();
+            Check.equal(42, cursor.intField(0), "int with spaces");
+            Check.equal(-7, cursor.intField(1), "negative int");
+            Check.equal(3, cursor.intField(2), "explicit plus sign");
+            for (int field = 3; field <= 5; field++) {
+                try {
+                    cursor.intField(field);
+                    Check.isTrue(false, "field " + field + " should not parse as an int");
+                } catch (NumberFormatException expected) {
+                    Check.isTrue(true, "field " + field + " rejected");
+                }
+            }
+            Check.isTrue(cursor.booleanField(6), "boolean field");
+            Check.isTrue(cursor.fieldEquals(4, "x"), "fieldEquals");
+        }
+    }
+
+    private static List<String[]> parse(String text) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (CsvCodec.Cursor cursor = CsvCodec.over(new StringReader(text))) {
+            while (cursor.next()) {
+                rows.add(cursor.toArray());
+            }
+        }
+        return rows;
+    }
+}
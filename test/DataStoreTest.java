@@ -0,0 +1,73 @@
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+class DataStoreTest {
+    public static void main(String[] args) throws Exception {
+        run();
+        Check.done();
+    }
+
+    static void run() throws Exception {
+        Path dir = Files.createTempDirectory("datastore");
+        try {
+            Files.write(dir.resolve("Tasks.csv"), List.of("Read,false", "\"Write, edit\",true"));
+            DataStore store = new DataStore(dir);
+
+            List<String[]> rows = store.rows("Tasks.csv");
+            Check.equal(2, rows.size(), "rows are read on first use");
+            Check.equal(new String[]{"Write, edit", "true"}, rows.get(1), "rows are parsed as CSV");
+            Check.isTrue(rows == store.rows("Tasks.csv"), "later reads come from the cache");
+            Check.equal(0, store.rows("Missing.csv").size(), "a missing file has no rows");
+
+            BlockingQueue<List<String[]>> changes = new LinkedBlockingQueue<>();
+            boolean[] onEdt = {true};
+            store.addListener("Tasks.csv", (fileName, fresh) -> {
+                onEdt[0] &= SwingUtilities.isEventDispatchThread();
+                changes.add(fresh);
+            });
+
+            store.reload("Tasks.csv");
+            SwingUtilities.invokeAndWait(() -> { });
+            Check.isTrue(changes.isEmpty(), "an unchanged reload notifies nobody");
+
+            Files.write(dir.resolve("Tasks.csv"), List.of("Read,true"));
+            Check.isTrue(awaitRows(changes, 1), "an external edit is picked up by the watcher");
+            List<String[]> cached = store.rows("Tasks.csv");
+            Check.isTrue(cached.size() == 1 && cached.get(0)[1].equals("true"), "the cache holds the new rows");
+            Check.isTrue(onEdt[0], "listeners run on the EDT");
+
+            BlockingQueue<List<String[]>> journalChanges = new LinkedBlockingQueue<>();
+            store.addListener("attendance.journal", (fileName, fresh) -> journalChanges.add(fresh));
+            Files.write(dir.resolve("attendance.journal"), List.of("1,Maths,1", "2,Maths,1"));
+            Check.isTrue(awaitRows(journalChanges, 2), "a file that is only listened to is watched too");
+        } finally {
+            deleteTree(dir);
+        }
+    }
+
+    // The write may be seen half done first (truncated), so wait for the final content.
+    private static boolean awaitRows(BlockingQueue<List<String[]>> changes, int size) throws InterruptedException {
+        List<String[]> fresh = null;
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline && (fresh == null || fresh.size() != size)) {
+            fresh = changes.poll(100, TimeUnit.MILLISECONDS);
+        }
+        return fresh != null && fresh.size() == size;
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.BitSet;
+import java.util.Random;
+
+class DayBitmapTest {
+    private static final long BASE = 20_000;
+
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    static void run() {
+        setGetClear();
+        countsAndNextMatchBitSet();
+        encodesAndDecodes();
+    }
+
+    private static void setGetClear() {
+        DayBitmap bitmap = new DayBitmap();
+        Check.isTrue(bitmap.isEmpty(), "new bitmap is empty");
+        Check.equal(Long.MIN_VALUE, bitmap.first(), "no first day");
+        Check.equal("", bitmap.encode(), "empty encodes to nothing");
+
+        bitmap.set(BASE + 63);
+        bitmap.set(BASE + 64);
+        bitmap.set(BASE - 500);
+        Check.isTrue(bitmap.get(BASE + 63) && bitmap.get(BASE + 64), "days on both sides of a word boundary");
+        Check.isTrue(bitmap.get(BASE - 500), "day before the first word");
+        Check.isTrue(!bitmap.get(BASE) && !bitmap.get(BASE + 10_000), "unset and out of range days");
+        Check.equal(BASE - 500, bitmap.first(), "first day after growing backwards");
+
+        bitmap.clear(BASE - 500);
+        bitmap.clear(BASE + 10_000);
+        Check.equal(BASE + 63, bitmap.first(), "first day after a clear");
+        bitmap.clear(BASE + 63);
+        bitmap.clear(BASE + 64);
+        Check.isTrue(bitmap.isEmpty(), "empty once every day is cleared");
+    }
+
+    private static void countsAndNextMatchBitSet() {
+        Random random = new Random(11);
+        DayBitmap bitmap = new DayBitmap();
+        BitSet expected = new BitSet();
+        for (int n = 0; n < 400; n++) {
+            int day = random.nextInt(1000);
+            if (random.nextInt(4) == 0) {
+                bitmap.clear(BASE + day);
+                expected.clear(day);
+            } else {
+                bitmap.set(BASE + day);
+                expected.set(day);
+            }
+        }
+        for (int n = 0; n < 200; n++) {
+            int from = random.nextInt(1100) - 50;
+            int to = from + random.nextInt(300) - 20;
+            int count = to < from ? 0 : expected.get(Math.max(0, from), Math.max(0, to + 1)).cardinality();
+            Check.equal(count, bitmap.count(BASE + from, BASE + to), "count " + from + ".." + to);
+
+            int next = expected.nextSetBit(Math.max(0, from));
+            Check.equal(next < 0 ? Long.MIN_VALUE : BASE + next, bitmap.next(BASE + from), "next from " + from);
+        }
+        Check.equal(BASE + expected.nextSetBit(0), bitmap.first(), "first");
+    }
+
+    private static void encodesAndDecodes() {
+        DayBitmap bitmap = new DayBitmap();
+        long[] days = {BASE + 3, BASE + 4, BASE + 11, BASE + 200};
+        for (long day : days) {
+            bitmap.set(day);
+        }
+        String encoded = bitmap.encode();
+        Check.isTrue(encoded.startsWith((BASE + 3) + ":"), "encoding starts at the first set day");
+        DayBitmap decoded = DayBitmap.decode(encoded);
+        Check.equal(days.length, decoded.count(BASE, BASE + 1000), "decoded day count");
+        for (long day : days) {
+            Check.isTrue(decoded.get(day), "decoded day " + day);
+        }
+        Check.equal(encoded, decoded.encode(), "encoding is stable");
+        Check.isTrue(DayBitmap.decode("").isEmpty(), "empty string decodes to an empty bitmap");
+    }
+}
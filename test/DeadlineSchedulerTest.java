@@ -0,0 +1,44 @@
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+class DeadlineSchedulerTest {
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    // The scheduler is not started, so sync only fills the queue.
+    static void run() {
+        DeadlineScheduler scheduler = DeadlineScheduler.get();
+        LocalDate soon = LocalDate.now().plusDays(30);
+        String[] read = {"Read", "100", soon.toString(), "0", "In Progress"};
+        String[] run = {"Run", "100", soon.plusDays(1).toString(), "0", "In Progress"};
+        scheduler.sync(List.of(read, run,
+                new String[]{"Done", "100", soon.toString(), "100", "Completed"},
+                new String[]{"Bad", "100", "someday", "0", "In Progress"},
+                new String[]{"Short"}));
+        Check.equal(2, scheduler.pendingCount(), "only in-progress rows with a deadline are scheduled");
+        scheduler.sync(List.of(read, run));
+        Check.equal(2, scheduler.pendingCount(), "a repeated sync schedules nothing new");
+        scheduler.sync(List.of(read, new String[]{"Run", "100", soon.plusDays(2).toString(), "0", "In Progress"}));
+        Check.equal(2, scheduler.pendingCount(), "a moved deadline replaces the old entry");
+        scheduler.sync(Collections.singletonList(read));
+        Check.equal(1, scheduler.pendingCount(), "a removed goal is unscheduled");
+        scheduler.sync(Collections.emptyList());
+        Check.equal(0, scheduler.pendingCount(), "nothing left");
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        String[] missed = {" Essay ", "100", yesterday.toString(), "50", "In Progress"};
+        String[] reached = {"Thesis", "100", yesterday.toString(), "100", "In Progress"};
+        String[] notDue = {"Other", "100", yesterday.toString(), "0", "In Progress"};
+        List<String[]> rows = List.of(missed, reached, notDue);
+        List<String[]> updated = DeadlineScheduler.passDeadlines(rows,
+                Set.of("essay\u0000" + yesterday, "thesis\u0000" + yesterday));
+        Check.equal("Missed", updated.get(0)[4], "a passed deadline below target is missed");
+        Check.equal("Completed", updated.get(1)[4], "a goal at its target is completed");
+        Check.isTrue(updated.get(2) == notDue, "rows that are not due are left alone");
+        Check.equal("In Progress", missed[4], "the cached rows are not modified");
+    }
+}
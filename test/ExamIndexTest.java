@@ -0,0 +1,74 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class ExamIndexTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 4);
+
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    static void run() {
+        Exam maths = new Exam("Maths", DAY, 5);
+        Exam physics = new Exam("Physics", DAY, 8);
+        Exam art = new Exam("Art", DAY, 5);
+        Exam history = new Exam("History", DAY.plusDays(3), 2);
+        Exam biology = new Exam("Biology", DAY.plusDays(10), 9);
+
+        ExamIndex index = new ExamIndex();
+        index.setAll(List.of(biology, maths, history));
+        Check.equal(List.of(maths, history, biology), index.all(), "setAll sorts by date");
+        Check.equal(0, index.add(physics), "higher priority goes first on the same day");
+        Check.equal(1, index.add(art), "same day and priority are ordered by subject");
+        Check.equal(List.of(physics, art, maths, history, biology), index.all(), "rows stay in order after adds");
+
+        Check.equal(3, index.countOn(DAY.toEpochDay()), "three exams clash on the first day");
+        Check.equal(1, index.countOn(DAY.plusDays(3).toEpochDay()), "one exam on the fourth day");
+        Check.equal(0, index.sameDay(DAY.plusDays(1)).size(), "no exams on a free day");
+        Check.equal(3, index.firstIndexOn(DAY.plusDays(1).toEpochDay()), "first row on or after a free day");
+
+        Check.equal(physics, index.next(DAY.minusDays(5)), "next picks the first row of the next exam day");
+        Check.equal(history, index.next(DAY.plusDays(1)), "next skips past days");
+        Check.equal(null, index.next(DAY.plusDays(11)), "nothing after the last exam");
+
+        Check.equal(List.of(physics, art, maths, history), index.between(DAY, DAY.plusDays(3)), "between is inclusive");
+        Check.equal(Collections.emptyList(), index.between(DAY.plusDays(3), DAY), "reversed range is empty");
+
+        Check.equal(List.of(biology, physics), index.topByPriority(DAY, 2), "top two by priority");
+        Check.equal(List.of(biology, history), index.topByPriority(DAY.plusDays(1), 5), "top k only looks from the date on");
+        Check.isTrue(!index.topByPriority(DAY, 4).contains(history), "the lowest priority is left out");
+        Check.equal(0, index.topByPriority(DAY, 0).size(), "k of zero");
+
+        Check.equal(art, index.remove(1), "remove by row");
+        Check.equal(2, index.countOn(DAY.toEpochDay()), "the day bucket shrinks with the row");
+        index.remove(index.firstIndexOn(DAY.plusDays(3).toEpochDay()));
+        Check.equal(biology, index.next(DAY.plusDays(1)), "an emptied day is dropped");
+        apiQueries();
+    }
+
+    private static void apiQueries() {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new Exam("Maths", DAY, 5).toRow());
+        rows.add(new Exam("History", DAY.plusDays(3), 2).toRow());
+        rows.add(new String[]{"Broken", "someday", "1"});
+        Object[] sources = {rows};
+        String range = ApiServer.examsQueryJson(sources, ApiServer.parseQuery("from=" + DAY.plusDays(1) + "&to="));
+        Check.isTrue(range.contains("History") && !range.contains("Maths"), "from/to filter the exams");
+        String top = ApiServer.examsQueryJson(sources, ApiServer.parseQuery("top=1&from=" + DAY));
+        Check.isTrue(top.contains("Maths") && !top.contains("History"), "top picks by priority");
+        Map<String, String> params = ApiServer.parseQuery("from=2026-05-04&x=a%20b&flag");
+        Check.equal("a b", params.get("x"), "query values are decoded");
+        Check.equal("", params.get("flag"), "a name without a value");
+        boolean rejected = false;
+        try {
+            ApiServer.examsQueryJson(sources, ApiServer.parseQuery("from=tomorrow"));
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        Check.isTrue(rejected, "a bad date is rejected");
+    }
+}
@@ -0,0 +1,67 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+class GoalManagerTest {
+    private static final LocalDate DEADLINE = LocalDate.now().plusYears(1);
+
+    public static void main(String[] args) throws IOException {
+        run();
+        Check.done();
+    }
+
+    static void run() throws IOException {
+        fileAndCachedRowsParseAlike();
+        GoalManager manager = new GoalManager();
+        Check.equal("read more", GoalManager.normalize("  Read More "), "names are trimmed and lower-cased");
+
+        Check.isTrue(manager.addGoal(new Goal("Read More", 100, DEADLINE)), "first goal is added");
+        Check.isTrue(!manager.addGoal(new Goal(" read more", 50, DEADLINE)), "a name differing in case and spaces is a duplicate");
+        Check.equal(100, manager.findGoal("READ MORE ").getTargetProgress(), "the first goal is kept");
+        Check.equal("Read More", manager.findGoal("read more").getName(), "the original spelling is kept");
+
+        List<Goal> batch = List.of(new Goal("Run", 100, DEADLINE), new Goal("Swim", 100, DEADLINE), new Goal("run", 100, DEADLINE));
+        Check.equal(2, manager.addGoals(batch), "duplicates within a batch are refused");
+        List<String> names = new ArrayList<>();
+        for (Goal goal : manager.getGoals()) {
+            names.add(goal.getName());
+        }
+        Check.equal(List.of("Read More", "Run", "Swim"), names, "goals keep insertion order");
+
+        Check.isTrue(manager.removeGoal(" RUN"), "remove by a variant of the name");
+        Check.isTrue(!manager.removeGoal("Run"), "a second remove finds nothing");
+        Check.equal(1, manager.removeGoals(List.of("swim", "Walk")), "only existing goals are counted as removed");
+        Check.equal(1, manager.getGoals().size(), "one goal left");
+        Check.equal("Read More,100," + DEADLINE + ",0,In Progress", manager.goalLines().get(0), "goal line");
+    }
+
+    private static void fileAndCachedRowsParseAlike() throws IOException {
+        List<String> goalLines = List.of("Read,100," + DEADLINE + ",0,In Progress", "Broken goal",
+                "Bad date,100,someday,0,In Progress", "Bad target,lots," + DEADLINE + ",0,In Progress",
+                "\"Write, edit\",100," + DEADLINE + ",0,In Progress");
+        List<String> taskLines = List.of("Read,Chapter 1,true", "Read,Chapter 2, TRUE ", "short", "Write, edit,Draft,false");
+        Path goals = Files.createTempFile("goals", ".csv");
+        Path tasks = Files.createTempFile("tasks", ".csv");
+        try {
+            Files.write(goals, goalLines);
+            Files.write(tasks, taskLines);
+            GoalManager fromFile = new GoalManager();
+            fromFile.loadGoals(goals);
+            fromFile.loadTasks(tasks);
+            GoalManager fromRows = new GoalManager();
+            fromRows.addGoalRows(CsvCodec.readAll(goals));
+            fromRows.addTaskRows(CsvCodec.readAll(tasks));
+
+            Check.equal(2, fromFile.getGoals().size(), "short and unparsable goal rows are skipped");
+            Check.equal(fromFile.goalLines(), fromRows.goalLines(), "file and cached rows give the same goals");
+            Check.equal(fromFile.taskLines(), fromRows.taskLines(), "file and cached rows give the same tasks");
+            Check.equal(2, fromFile.findGoal("read").getCompletedTaskCount(), "task flags are read the same way");
+        } finally {
+            Files.delete(goals);
+            Files.delete(tasks);
+        }
+    }
+}
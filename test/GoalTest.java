@@ -0,0 +1,47 @@
+import java.time.LocalDate;
+
+class GoalTest {
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    static void run() {
+        Goal goal = new Goal("Thesis", 100, LocalDate.now().plusYears(1));
+        Task draft = new Task("Draft");
+        Task review = new Task("Review");
+        Task done = new Task("Outline");
+        done.markComplete(true);
+
+        goal.addTask(draft);
+        goal.addTask(review);
+        goal.addTask(done);
+        Check.equal(1, goal.getCompletedTaskCount(), "a complete task counts when added");
+        Check.equal(33, goal.getCurrentProgress(), "progress from the counter");
+
+        draft.markComplete(true);
+        draft.markComplete(true);
+        Check.equal(2, goal.getCompletedTaskCount(), "marking twice counts once");
+        review.markComplete(false);
+        Check.equal(2, goal.getCompletedTaskCount(), "clearing an incomplete task changes nothing");
+
+        goal.removeTask(done);
+        Check.equal(1, goal.getCompletedTaskCount(), "removing a complete task lowers the count");
+        Check.equal(50, goal.getCurrentProgress(), "progress after a remove");
+        done.markComplete(false);
+        Check.equal(1, goal.getCompletedTaskCount(), "a removed task no longer reports to the goal");
+        goal.removeTask(done);
+        Check.equal(1, goal.getCompletedTaskCount(), "removing a task twice changes nothing");
+
+        review.markComplete(true);
+        Check.equal(100, goal.getCurrentProgress(), "all tasks complete");
+        Check.equal("Completed", goal.getStatus(), "status follows progress");
+        draft.markComplete(false);
+        Check.equal("In Progress", goal.getStatus(), "status goes back when a task is reopened");
+
+        goal.removeTask(draft);
+        goal.removeTask(review);
+        Check.equal(0, goal.getCompletedTaskCount(), "no tasks left");
+        Check.equal(0, goal.getCurrentProgress(), "no tasks means no progress");
+    }
+}
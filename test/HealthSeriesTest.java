@@ -0,0 +1,134 @@
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class HealthSeriesTest {
+    private static final LocalDate START = LocalDate.of(2026, 3, 2);
+
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    static void run() {
+        statsMatchBruteForce();
+        editsAndEarlierDaysUpdateStats();
+        correlationNeedsThreePairs();
+        readsDatedAndWeekdayRows();
+        slicesAndWeekdayMeans();
+    }
+
+    // Random days with gaps, written out of order, checked against sums over the raw values.
+    private static void statsMatchBruteForce() {
+        Random random = new Random(7);
+        int days = 120;
+        double[] sleep = new double[days];
+        double[] energy = new double[days];
+        Arrays.fill(sleep, Double.NaN);
+        Arrays.fill(energy, Double.NaN);
+        HealthSeries series = new HealthSeries();
+        for (int n = 0; n < 200; n++) {
+            int day = random.nextInt(days);
+            sleep[day] = random.nextInt(5) == 0 ? Double.NaN : 4 + random.nextInt(12) / 2.0;
+            energy[day] = random.nextInt(5) == 0 ? Double.NaN : 1 + random.nextInt(10);
+            series.set(START.plusDays(day), sleep[day], energy[day]);
+        }
+        for (int n = 0; n < 50; n++) {
+            int from = random.nextInt(days + 20) - 10;
+            int to = from + random.nextInt(40);
+            HealthSeries.Stats stats = series.stats(START.plusDays(from), START.plusDays(to));
+            String range = "days " + from + ".." + to;
+            checkStats(stats, sleep, energy, from, to, range);
+        }
+    }
+
+    private static void checkStats(HealthSeries.Stats stats, double[] sleep, double[] energy, int from, int to, String range) {
+        double sleepSum = 0, sleepSquares = 0, energySum = 0, energySquares = 0;
+        int sleepDays = 0, energyDays = 0;
+        for (int day = Math.max(0, from); day <= Math.min(sleep.length - 1, to); day++) {
+            if (!Double.isNaN(sleep[day])) {
+                sleepDays++;
+                sleepSum += sleep[day];
+                sleepSquares += sleep[day] * sleep[day];
+            }
+            if (!Double.isNaN(energy[day])) {
+                energyDays++;
+                energySum += energy[day];
+                energySquares += energy[day] * energy[day];
+            }
+        }
+        Check.equal(sleepDays, stats.sleepDays, "sleep days for " + range);
+        Check.equal(energyDays, stats.energyDays, "energy days for " + range);
+        Check.near(sleepDays == 0 ? Double.NaN : sleepSum / sleepDays, stats.sleepMean, "sleep mean for " + range);
+        Check.near(energyDays == 0 ? Double.NaN : energySum / energyDays, stats.energyMean, "energy mean for " + range);
+        Check.near(sleepDays < 2 ? Double.NaN : (sleepSquares - sleepSum * sleepSum / sleepDays) / (sleepDays - 1),
+                stats.sleepVariance, "sleep variance for " + range);
+        Check.near(energyDays < 2 ? Double.NaN : (energySquares - energySum * energySum / energyDays) / (energyDays - 1),
+                stats.energyVariance, "energy variance for " + range);
+    }
+
+    private static void editsAndEarlierDaysUpdateStats() {
+        HealthSeries series = new HealthSeries();
+        series.set(START.plusDays(5), 8, 6);
+        series.set(START.plusDays(6), 6, 4);
+        Check.near(7, series.trailing(START.plusDays(6), 7).sleepMean, "mean of two days");
+
+        series.setSleep(START.plusDays(5), 4);
+        Check.near(5, series.trailing(START.plusDays(6), 7).sleepMean, "mean after an edit");
+        Check.near(6, series.energyOn(START.plusDays(5)), "edit keeps the other value");
+
+        series.set(START, 10, 10);
+        Check.equal(START, series.firstDate(), "earlier day moves the start");
+        Check.equal(7, series.size(), "size spans the gap");
+        Check.near(Double.NaN, series.sleepOn(START.plusDays(2)), "gap day is missing");
+        Check.equal(3, series.stats(START, START.plusDays(6)).sleepDays, "gap days are not counted");
+        Check.near(20 / 3.0, series.stats(START, START.plusDays(6)).sleepMean, "mean after an earlier day");
+        Check.equal(0, series.stats(START.minusDays(30), START.minusDays(1)).sleepDays, "range before the series");
+    }
+
+    private static void correlationNeedsThreePairs() {
+        HealthSeries series = new HealthSeries();
+        series.set(START, 5, 3);
+        series.set(START.plusDays(1), 7, 5);
+        Check.near(Double.NaN, series.stats(START, START.plusDays(1)).correlation, "two pairs have no correlation");
+        series.set(START.plusDays(2), 9, 7);
+        series.set(START.plusDays(3), 8, Double.NaN);
+        HealthSeries.Stats stats = series.stats(START, START.plusDays(3));
+        Check.equal(3, stats.pairedDays, "unpaired day is left out");
+        Check.near(1, stats.correlation, "perfectly correlated");
+        series.set(START.plusDays(2), 9, 1);
+        Check.isTrue(series.stats(START, START.plusDays(3)).correlation < 0, "correlation follows an edit");
+    }
+
+    private static void readsDatedAndWeekdayRows() {
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        HealthSeries series = HealthSeries.fromRows(List.of(
+                new String[]{"2026-03-02", "7.5", "6"},
+                new String[]{"Wednesday", "8", ""},
+                new String[]{"Someday", "8", "8"},
+                new String[]{"2026-03-04", "x"}));
+        Check.near(7.5, series.sleepOn(START), "dated row");
+        Check.near(8, series.sleepOn(monday.plusDays(2)), "weekday row lands in the current week");
+        Check.near(Double.NaN, series.energyOn(monday.plusDays(2)), "empty value is missing");
+        Check.near(Double.NaN, series.sleepOn(START.plusDays(2)), "unparsable value is missing");
+        Check.equal("2026-03-02,7.5,6", series.toLines().get(0), "first line");
+        Check.equal(2, series.toLines().size(), "empty days are not written");
+        Check.equal("7", HealthSeries.format(7.0), "whole numbers are written without a fraction");
+        Check.near(Double.NaN, HealthSeries.parse(" "), "blank parses as missing");
+    }
+
+    private static void slicesAndWeekdayMeans() {
+        HealthSeries series = new HealthSeries();
+        for (int day = 0; day < 14; day++) {
+            series.set(START.plusDays(day), 7, day < 7 ? 4 : 8);
+        }
+        double[] slice = series.energyBetween(START.minusDays(1), START.plusDays(1));
+        Check.near(Double.NaN, slice[0], "slice before the series");
+        Check.near(4, slice[1], "slice inside the series");
+        double[] weekdays = series.weekdayEnergy(START.plusDays(13), 14);
+        Check.near(6, weekdays[0], "Monday mean over two weeks");
+        Check.near(8, series.weekdayEnergy(START.plusDays(13), 7)[6], "Sunday mean over one week");
+    }
+}
@@ -0,0 +1,93 @@
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+class InsightsEngineTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    static void run() {
+        configuresRules();
+        evaluatesEachRule();
+        editsInvalidateLaterDays();
+        formatsTips();
+    }
+
+    private static void configuresRules() {
+        Check.equal(5, InsightsEngine.rules(new Properties()).size(), "default rule set");
+        Properties config = config("rules", "lowSleep, unknownRule,,lowEnergy");
+        Check.equal(2, InsightsEngine.rules(config).size(), "unknown and empty names are skipped");
+
+        HealthSeries series = new HealthSeries();
+        series.set(DAY, 7.5, 8);
+        config = config("rules", "lowSleep", "sleep.min", "8");
+        Check.equal(List.of("Try to get more sleep. Aim for at least 8 hours."),
+                new InsightsEngine(series, InsightsEngine.rules(config)).insightsFor(DAY), "tip names the configured minimum");
+        config = config("rules", "lowSleep", "sleep.min", "not a number");
+        Check.equal(Collections.emptyList(), new InsightsEngine(series, InsightsEngine.rules(config)).insightsFor(DAY),
+                "invalid value falls back to the default");
+    }
+
+    private static void evaluatesEachRule() {
+        HealthSeries series = new HealthSeries();
+        for (int day = 0; day < 3; day++) {
+            series.set(DAY.plusDays(day), 5, 7);
+        }
+        series.set(DAY.plusDays(3), 8, 3);
+
+        Check.equal(Collections.emptyList(), only("lowSleep", series, DAY.minusDays(1)), "no data, no insight");
+        Check.equal(1, only("lowSleep", series, DAY).size(), "low sleep");
+        Check.equal(0, only("lowSleep", series, DAY.plusDays(3)).size(), "enough sleep");
+        Check.equal(1, only("lowEnergy", series, DAY.plusDays(3)).size(), "low energy");
+        Check.equal(0, only("shortSleepStreak", series, DAY.plusDays(1)).size(), "two short nights are not a streak");
+        Check.equal(List.of("3 short nights in a row. Keep a regular bedtime."),
+                only("shortSleepStreak", series, DAY.plusDays(2)), "three short nights");
+        Check.equal(0, only("sleepDebt", series, DAY.plusDays(1)).size(), "4 h of debt is under the limit");
+        Check.equal(List.of(String.format("Sleep debt of %.1f h over the last 7 days. Plan an early night.", 6.0)),
+                only("sleepDebt", series, DAY.plusDays(2)), "6 h of debt");
+        Check.equal(1, only("lowEnergyAfterShortSleep", series, DAY.plusDays(3)).size(), "low energy after a short night");
+        Check.equal(0, only("lowEnergyAfterShortSleep", series, DAY.plusDays(2)).size(), "short night but energy is fine");
+    }
+
+    private static void editsInvalidateLaterDays() {
+        HealthSeries series = new HealthSeries();
+        for (int day = 0; day < 3; day++) {
+            series.set(DAY.plusDays(day), 8, 7);
+        }
+        InsightsEngine engine = new InsightsEngine(series, InsightsEngine.rules(config("rules", "shortSleepStreak")));
+        Check.equal(0, engine.insightsFor(DAY.plusDays(2)).size(), "no streak yet");
+
+        series.setSleep(DAY, 5);
+        series.setSleep(DAY.plusDays(1), 5);
+        series.setSleep(DAY.plusDays(2), 5);
+        Check.equal(0, engine.insightsFor(DAY.plusDays(2)).size(), "cached until told about the edit");
+        engine.dayChanged(DAY);
+        Check.equal(1, engine.insightsFor(DAY.plusDays(2)).size(), "an edit reaches days within the lookback");
+    }
+
+    private static void formatsTips() {
+        HealthSeries series = new HealthSeries();
+        series.set(DAY, 5, 8);
+        series.set(DAY.plusDays(1), 8, 8);
+        InsightsEngine engine = new InsightsEngine(series, InsightsEngine.rules(config("rules", "lowSleep")));
+        Check.equal("Healthy Tips:\nMonday 02-03-2026: Try to get more sleep. Aim for at least 7 hours.\n",
+                engine.tips(DAY, DAY.plusDays(1)), "tips list each day with an insight");
+    }
+
+    private static List<String> only(String rule, HealthSeries series, LocalDate day) {
+        return new InsightsEngine(series, InsightsEngine.rules(config("rules", rule))).insightsFor(day);
+    }
+
+    private static Properties config(String... keysAndValues) {
+        Properties config = new Properties();
+        for (int i = 0; i + 1 < keysAndValues.length; i += 2) {
+            config.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return config;
+    }
+}
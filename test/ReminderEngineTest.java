@@ -0,0 +1,54 @@
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+class ReminderEngineTest {
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    // The engine is not started, so nothing is delivered and the queue can be inspected directly.
+    static void run() {
+        ReminderEngine engine = ReminderEngine.get();
+        LocalDate today = LocalDate.now();
+
+        engine.syncExams(List.of(
+                new String[]{"Maths", Exam.DATE_FORMAT.format(today.plusDays(30)), "5"},
+                new String[]{"History", Exam.DATE_FORMAT.format(today.minusDays(1)), "5"},
+                new String[]{"Broken", "not a date", "5"}));
+        Check.equal(3, engine.pendingCount(), "one reminder per lead time for an upcoming exam");
+        engine.syncExams(Collections.singletonList(new String[]{"Maths", Exam.DATE_FORMAT.format(today.plusDays(30)), "5"}));
+        Check.equal(3, engine.pendingCount(), "a repeated sync does not queue the exam again");
+
+        // Due at the start of tomorrow: the week and day reminders have passed and only the later one is kept.
+        engine.syncGoals(List.of(
+                new String[]{"Essay", "10", today.toString(), "0", "In Progress"},
+                new String[]{"Done", "10", today.plusDays(30).toString(), "10", "Completed"}));
+        int expected = LocalTime.now().getHour() < 23 ? 2 : 1;
+        Check.equal(3 + expected, engine.pendingCount(), "missed reminders collapse into one");
+
+        engine.syncGoals(Collections.emptyList());
+        engine.syncExams(Collections.emptyList());
+        Check.equal(0, engine.pendingCount(), "removed items are purged");
+
+        // Events from the tabs use the same keys as the file rows, so the reload after a save is a no-op.
+        Exam physics = new Exam("Physics", today.plusDays(20), 4);
+        engine.examAdded(physics);
+        Check.equal(3, engine.pendingCount(), "an added exam is queued at once");
+        engine.syncExams(Collections.singletonList(physics.toRow()));
+        Check.equal(3, engine.pendingCount(), "the reload that follows queues nothing new");
+        engine.goalAdded(new Goal("Thesis", 100, today.plusDays(20)));
+        Check.equal(6, engine.pendingCount(), "an added goal is queued at once");
+        engine.examRemoved(physics);
+        engine.goalRemoved(new Goal("Thesis", 100, today.plusDays(20)));
+        Check.equal(0, engine.pendingCount(), "removed exams and goals are purged");
+
+        Check.equal("3 days", ReminderEngine.describe(Duration.ofDays(3).plusHours(5)), "days");
+        Check.equal("1 day", ReminderEngine.describe(Duration.ofHours(24)), "one day");
+        Check.equal("2 hours", ReminderEngine.describe(Duration.ofMinutes(61)), "hours round up");
+        Check.equal("1 hour", ReminderEngine.describe(Duration.ofMinutes(5)), "at least an hour");
+    }
+}
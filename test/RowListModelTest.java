@@ -0,0 +1,72 @@
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+import java.util.List;
+
+class RowListModelTest {
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    static void run() {
+        RowListModel<String[]> model = new RowListModel<>();
+        List<String> events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+        });
+
+        model.setRows(rows("a", "b", "c", "d", "e"));
+        Check.equal(List.of("added 0-4"), events, "first rows are added");
+
+        events.clear();
+        model.setRows(rows("a", "b", "c", "d", "e"));
+        Check.equal(List.of(), events, "equal rows (compared by content) fire nothing");
+
+        events.clear();
+        model.setRows(rows("a", "b", "x", "c", "d", "e"));
+        Check.equal(List.of("added 2-2"), events, "a row inserted in the middle");
+
+        events.clear();
+        model.setRows(rows("a", "b", "c", "d", "e"));
+        Check.equal(List.of("removed 2-2"), events, "a row removed from the middle");
+
+        events.clear();
+        model.setRows(rows("a", "y", "c", "d", "z"));
+        Check.equal(List.of("changed 1-1", "changed 4-4"), events, "separate edits are reported separately");
+        Check.equal("y", model.getElementAt(1)[0], "the model holds the new rows");
+
+        events.clear();
+        model.setRows(rows("a", "y", "c"));
+        Check.equal(List.of("removed 3-4"), events, "rows removed from the end");
+
+        events.clear();
+        model.insert(2, new String[]{"new"});
+        model.set(0, new String[]{"first"});
+        model.remove(3);
+        Check.equal(List.of("added 2-2", "changed 0-0", "removed 3-3"), events, "single-row updates");
+        Check.equal(3, model.getSize(), "size after single-row updates");
+        Check.equal("new", model.getElementAt(2)[0], "inserted row");
+    }
+
+    private static List<String[]> rows(String... names) {
+        List<String[]> rows = new ArrayList<>();
+        for (String name : names) {
+            rows.add(new String[]{name, "false"});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,54 @@
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+class StudyPlannerTest {
+    private static final LocalDate WEDNESDAY = LocalDate.of(2026, 3, 4);
+
+    public static void main(String[] args) {
+        run();
+        Check.done();
+    }
+
+    static void run() {
+        String[][] template = {
+                {"Maths", "Maths", "Maths", "Maths", "Maths", "Play", "Rest"},
+                {"", "", "", "", "", "", ""},
+                {"", "", "Study", "", "", "", ""},
+                {"", "", "", "", "", "", ""}};
+        List<Exam> exams = List.of(new Exam("Maths", WEDNESDAY.plusDays(10), 8), new Exam("Physics", WEDNESDAY.plusDays(3), 5));
+        StudyPlanner planner = new StudyPlanner(exams, Collections.emptyList(), new double[]{4, 6, 8, Double.NaN, 5, 3, 7});
+        List<String[][]> weeks = planner.plan(WEDNESDAY, 2, template, 200);
+
+        Check.equal(2, weeks.size(), "one plan per week");
+        for (int week = 0; week < weeks.size(); week++) {
+            String[][] cells = weeks.get(week);
+            LocalDate monday = WEDNESDAY.with(DayOfWeek.MONDAY).plusWeeks(week);
+            for (int day = 0; day < 7; day++) {
+                LocalDate date = monday.plusDays(day);
+                boolean beforeStart = date.isBefore(WEDNESDAY);
+                int[] slots = new int[2];
+                for (int period = 0; period < template.length; period++) {
+                    String cell = cells[period][day];
+                    String where = date + " period " + period;
+                    if (period == 0 || beforeStart) {
+                        Check.equal(template[period][day], cell, "kept " + where);
+                        continue;
+                    }
+                    Check.isTrue(cell.startsWith(StudyPlanner.STUDY), "open slot filled " + where);
+                    if (cell.equals("Study Maths")) slots[0]++;
+                    if (cell.equals("Study Physics")) {
+                        slots[1]++;
+                        Check.isTrue(date.isBefore(WEDNESDAY.plusDays(3)), "no study after the exam " + where);
+                    }
+                }
+                Check.isTrue(slots[0] <= StudyPlanner.MAX_SLOTS_PER_SUBJECT_PER_DAY
+                        && slots[1] <= StudyPlanner.MAX_SLOTS_PER_SUBJECT_PER_DAY, "daily cap on " + date);
+            }
+        }
+        Check.isTrue(weeks.get(0)[1][2].startsWith("Study ") || weeks.get(0)[2][2].startsWith("Study "),
+                "something is planned on the first day");
+        Check.equal("", template[1][2], "the template is not modified");
+    }
+}